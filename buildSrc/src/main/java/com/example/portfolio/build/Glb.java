@@ -0,0 +1,95 @@
+package com.example.portfolio.build;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.Arrays;
+
+/**
+ * GLB(바이너리 glTF 2.0) 컨테이너 - JSON 청크 + BIN 청크
+ */
+final class Glb {
+
+    private static final int MAGIC = 0x46546C67;       // "glTF"
+    private static final int CHUNK_JSON = 0x4E4F534A;  // "JSON"
+    private static final int CHUNK_BIN = 0x004E4942;   // "BIN\0"
+
+    private final ObjectNode json;
+    private final byte[] bin;
+
+    Glb(ObjectNode json, byte[] bin) {
+        this.json = json;
+        this.bin = bin;
+    }
+
+    ObjectNode json() {
+        return json;
+    }
+
+    /**
+     * BIN 청크 (없으면 빈 배열)
+     */
+    byte[] bin() {
+        return bin;
+    }
+
+    static Glb read(byte[] data, ObjectMapper objectMapper) throws IOException {
+        ByteBuffer buffer = ByteBuffer.wrap(data).order(ByteOrder.LITTLE_ENDIAN);
+        if (data.length < 20 || buffer.getInt(0) != MAGIC || buffer.getInt(4) != 2) {
+            throw new IllegalArgumentException("GLB 2.0 형식 아님");
+        }
+        int length = Math.min(buffer.getInt(8), data.length);
+        int offset = 12;
+        ObjectNode json = null;
+        byte[] bin = new byte[0];
+        while (offset + 8 <= length) {
+            int chunkLength = buffer.getInt(offset);
+            int chunkType = buffer.getInt(offset + 4);
+            int start = offset + 8;
+            if (chunkLength < 0 || start + chunkLength > length) {
+                throw new IllegalArgumentException("잘린 GLB 청크");
+            }
+            if (chunkType == CHUNK_JSON) {
+                json = (ObjectNode) objectMapper.readTree(data, start, chunkLength);
+            } else if (chunkType == CHUNK_BIN) {
+                bin = Arrays.copyOfRange(data, start, start + chunkLength);
+            }
+            offset = start + chunkLength;
+        }
+        if (json == null) {
+            throw new IllegalArgumentException("JSON 청크 없음");
+        }
+        return new Glb(json, bin);
+    }
+
+    byte[] write(ObjectMapper objectMapper) throws IOException {
+        byte[] jsonBytes = objectMapper.writeValueAsBytes(json);
+        int jsonLength = align(jsonBytes.length);
+        int binLength = align(bin.length);
+        int total = 12 + 8 + jsonLength + (bin.length > 0 ? 8 + binLength : 0);
+
+        ByteBuffer header = ByteBuffer.allocate(20).order(ByteOrder.LITTLE_ENDIAN)
+                .putInt(MAGIC).putInt(2).putInt(total)
+                .putInt(jsonLength).putInt(CHUNK_JSON);
+        ByteArrayOutputStream out = new ByteArrayOutputStream(total);
+        out.write(header.array());
+        out.write(jsonBytes);
+        for (int i = jsonBytes.length; i < jsonLength; i++) {
+            out.write(' ');  // JSON 청크는 공백으로 4바이트 정렬
+        }
+        if (bin.length > 0) {
+            out.write(ByteBuffer.allocate(8).order(ByteOrder.LITTLE_ENDIAN).putInt(binLength).putInt(CHUNK_BIN).array());
+            out.write(bin);
+            out.write(new byte[binLength - bin.length]);
+        }
+        return out.toByteArray();
+    }
+
+    static int align(int length) {
+        return (length + 3) & ~3;
+    }
+}
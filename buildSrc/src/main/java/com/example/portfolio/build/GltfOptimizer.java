@@ -0,0 +1,969 @@
+package com.example.portfolio.build;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.function.Consumer;
+import java.util.function.IntUnaryOperator;
+
+/**
+ * GLB 한 개의 최적화 - 사용하지 않는 노드/메시/머티리얼/텍스처 제거, 정점 속성 양자화, 동일 데이터 병합, 버퍼 재배치,
+ * LOD용 메시 단순화
+ *
+ * 양자화는 KHR_mesh_quantization 형식이다 (three.js GLTFLoader 지원).
+ * - POSITION: 메시별 최대 절댓값 기준 SHORT normalized. 원점(피벗)은 그대로 두고 노드 scale에 배율을 곱한다.
+ * - NORMAL/TANGENT: BYTE normalized
+ * - TEXCOORD: 모두 [0, 1]이면 UNSIGNED_SHORT normalized (벗어나면 float 유지)
+ * - 인덱스: 정점 수가 65535 미만이면 UNSIGNED_SHORT
+ */
+final class GltfOptimizer {
+
+    static final String MESH_QUANTIZATION = "KHR_mesh_quantization";
+
+    private static final Set<String> SUPPORTED_EXTENSIONS = Set.of(
+            MESH_QUANTIZATION, "KHR_texture_transform", "KHR_lights_punctual");
+
+    private static final int BYTE = 5120;
+    private static final int SHORT = 5122;
+    private static final int UNSIGNED_SHORT = 5123;
+    private static final int UNSIGNED_INT = 5125;
+    private static final int FLOAT = 5126;
+    private static final int ARRAY_BUFFER = 34962;
+    private static final int ELEMENT_ARRAY_BUFFER = 34963;
+
+    // 위치 양자화 후에도 메시 크기 대비 12비트 이상의 정밀도가 남을 때만 양자화
+    private static final double MIN_POSITION_PRECISION = 1.0 / 4096;
+
+    private final ObjectNode json;
+    private final List<byte[]> views = new ArrayList<>();
+    private final Stats stats = new Stats();
+
+    GltfOptimizer(Glb glb) {
+        String reason = unsupportedReason(glb.json());
+        if (reason != null) {
+            throw new IllegalArgumentException(reason);
+        }
+        this.json = glb.json();
+        for (JsonNode view : json.path("bufferViews")) {
+            int offset = view.path("byteOffset").asInt(0);
+            int length = view.path("byteLength").asInt(0);
+            if (offset + length > glb.bin().length) {
+                throw new IllegalArgumentException("bufferView가 BIN 청크 범위를 벗어남");
+            }
+            views.add(Arrays.copyOfRange(glb.bin(), offset, offset + length));
+        }
+    }
+
+    /**
+     * 최적화할 수 없는 파일이면 이유 (가능하면 null) - 애니메이션/스킨, 외부 버퍼, sparse 접근자, 미지원 확장
+     */
+    static String unsupportedReason(ObjectNode json) {
+        if (json.has("animations") || json.has("skins")) {
+            return "애니메이션/스킨 포함";
+        }
+        JsonNode buffers = json.path("buffers");
+        if (buffers.size() > 1 || buffers.path(0).has("uri")) {
+            return "외부 버퍼";
+        }
+        for (JsonNode view : json.path("bufferViews")) {
+            if (view.path("buffer").asInt(0) != 0) {
+                return "외부 버퍼";
+            }
+        }
+        for (JsonNode accessor : json.path("accessors")) {
+            if (accessor.has("sparse")) {
+                return "sparse 접근자";
+            }
+        }
+        for (JsonNode extension : json.path("extensionsUsed")) {
+            String name = extension.asText();
+            if (!SUPPORTED_EXTENSIONS.contains(name) && !name.startsWith("KHR_materials_")) {
+                return "미지원 확장 " + name;
+            }
+        }
+        return null;
+    }
+
+    Stats stats() {
+        return stats;
+    }
+
+    /**
+     * bufferView에 들어 있는 이미지 (이미지 인덱스 -> 데이터)
+     */
+    Map<Integer, byte[]> embeddedImages() {
+        Map<Integer, byte[]> images = new LinkedHashMap<>();
+        JsonNode array = json.path("images");
+        for (int i = 0; i < array.size(); i++) {
+            int view = array.get(i).path("bufferView").asInt(-1);
+            if (view >= 0 && view < views.size()) {
+                images.put(i, views.get(view));
+            }
+        }
+        return images;
+    }
+
+    String imageMimeType(int image) {
+        return json.path("images").path(image).path("mimeType").asText(null);
+    }
+
+    /**
+     * 내장 이미지를 외부 파일 참조로 교체 (uri는 GLB 위치 기준 상대 경로)
+     */
+    void externalizeImage(int image, String uri) {
+        ObjectNode node = (ObjectNode) json.get("images").get(image);
+        node.remove("bufferView");
+        node.put("uri", uri);
+        stats.externalizedImages++;
+    }
+
+    /**
+     * 장면에서 도달할 수 없는 노드와 이름 없는 빈 말단 노드 제거
+     * (이름 있는 빈 노드는 클라이언트가 이름으로 찾는 기준점일 수 있어 유지)
+     */
+    void pruneNodes() {
+        ArrayNode nodes = (ArrayNode) json.get("nodes");
+        if (nodes == null) {
+            return;
+        }
+        boolean[] keep = new boolean[nodes.size()];
+        Deque<Integer> stack = new ArrayDeque<>();
+        for (JsonNode scene : json.path("scenes")) {
+            scene.path("nodes").forEach(root -> stack.push(root.asInt()));
+        }
+        while (!stack.isEmpty()) {
+            int index = stack.pop();
+            if (index >= 0 && index < keep.length && !keep[index]) {
+                keep[index] = true;
+                nodes.get(index).path("children").forEach(child -> stack.push(child.asInt()));
+            }
+        }
+        boolean changed = true;
+        while (changed) {
+            changed = false;
+            for (int i = 0; i < keep.length; i++) {
+                if (keep[i] && isDisposable(nodes.get(i), keep)) {
+                    keep[i] = false;
+                    changed = true;
+                }
+            }
+        }
+        stats.removedNodes += compact("nodes", keep, this::rewriteNodeRefs);
+    }
+
+    private static boolean isDisposable(JsonNode node, boolean[] keep) {
+        for (String field : List.of("mesh", "camera", "skin", "weights", "extensions", "extras")) {
+            if (node.has(field)) {
+                return false;
+            }
+        }
+        if (!node.path("name").asText("").isEmpty()) {
+            return false;
+        }
+        for (JsonNode child : node.path("children")) {
+            int index = child.asInt();
+            if (index >= 0 && index < keep.length && keep[index]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * 장면에서 그려지는 삼각형 수 (노드가 메시를 여러 번 쓰면 그만큼 더함)
+     */
+    int triangleCount() {
+        int triangles = 0;
+        for (JsonNode node : json.path("nodes")) {
+            if (!node.has("mesh")) {
+                continue;
+            }
+            for (JsonNode primitive : json.path("meshes").path(node.get("mesh").asInt()).path("primitives")) {
+                if (primitive.path("mode").asInt(4) == 4) {
+                    JsonNode counted = primitive.has("indices")
+                            ? json.path("accessors").path(primitive.get("indices").asInt())
+                            : json.path("accessors").path(primitive.path("attributes").path("POSITION").asInt());
+                    triangles += counted.path("count").asInt() / 3;
+                }
+            }
+        }
+        return triangles;
+    }
+
+    /**
+     * 정점 군집화(vertex clustering) 단순화 - 메시 경계 상자를 한 변 resolution칸의 정육면체 격자로 나눠 같은 칸의 정점을 합친다.
+     *
+     * 칸 대표 위치는 평균이되 메시 경계 상자의 최솟값/최댓값을 가진 칸은 그 축 값을 그대로 두므로 메시 경계 상자가 변하지 않는다
+     * (quantize()의 노드 배율도 원본과 같아져 클라이언트가 LOD 단계끼리 geometry만 바꿔 끼울 수 있음).
+     * 법선/UV 등 나머지 속성은 원래 꼭짓점 값을 유지한다 (팔레트 텍스처 색 보존).
+     * 삼각형이 모두 사라지는 primitive는 원본 그대로 둔다 (노드/메시/primitive 구조 유지).
+     */
+    void simplify(int resolution) {
+        Set<Integer> meshes = new TreeSet<>();
+        for (JsonNode node : json.path("nodes")) {
+            if (node.has("mesh")) {
+                meshes.add(node.get("mesh").asInt());
+            }
+        }
+        for (int mesh : meshes) {
+            List<ObjectNode> primitives = new ArrayList<>();
+            for (JsonNode primitive : json.path("meshes").path(mesh).path("primitives")) {
+                if (isSimplifiable(primitive)) {
+                    primitives.add((ObjectNode) primitive);
+                }
+            }
+            if (!primitives.isEmpty()) {
+                simplifyMesh(primitives, resolution);
+            }
+        }
+    }
+
+    private boolean isSimplifiable(JsonNode primitive) {
+        if (primitive.path("mode").asInt(4) != 4 || primitive.has("targets")) {
+            return false;
+        }
+        JsonNode accessors = json.path("accessors");
+        if (!isFloat(accessors.path(primitive.path("attributes").path("POSITION").asInt(-1)), "VEC3")) {
+            return false;
+        }
+        for (JsonNode attribute : primitive.path("attributes")) {
+            if (!accessors.path(attribute.asInt()).has("bufferView")) {
+                return false;
+            }
+        }
+        return !primitive.has("indices") || accessors.path(primitive.get("indices").asInt()).has("bufferView");
+    }
+
+    private void simplifyMesh(List<ObjectNode> primitives, int resolution) {
+        JsonNode accessors = json.path("accessors");
+        List<float[]> positions = new ArrayList<>();
+        double[] min = {Double.POSITIVE_INFINITY, Double.POSITIVE_INFINITY, Double.POSITIVE_INFINITY};
+        double[] max = {Double.NEGATIVE_INFINITY, Double.NEGATIVE_INFINITY, Double.NEGATIVE_INFINITY};
+        for (ObjectNode primitive : primitives) {
+            float[] values = readFloats(accessors.get(primitive.get("attributes").get("POSITION").asInt()), 3);
+            positions.add(values);
+            for (int i = 0; i < values.length; i++) {
+                min[i % 3] = Math.min(min[i % 3], values[i]);
+                max[i % 3] = Math.max(max[i % 3], values[i]);
+            }
+        }
+        double cell = Math.max(max[0] - min[0], Math.max(max[1] - min[1], max[2] - min[2])) / resolution;
+        if (!(cell > 0)) {
+            return;
+        }
+
+        // 칸별 대표 위치 (평균, 경계 상자 최솟값/최댓값 유지)
+        Map<Long, double[]> clusters = new HashMap<>();
+        for (float[] values : positions) {
+            for (int v = 0; v < values.length / 3; v++) {
+                double[] cluster = clusters.computeIfAbsent(clusterKey(values, v, min, cell, resolution), k -> new double[]{
+                        0, 0, 0, 0, Double.NaN, Double.NaN, Double.NaN});
+                for (int axis = 0; axis < 3; axis++) {
+                    double value = values[v * 3 + axis];
+                    cluster[axis] += value;
+                    if (value == min[axis] || value == max[axis]) {
+                        cluster[4 + axis] = value;
+                    }
+                }
+                cluster[3]++;
+            }
+        }
+        for (double[] cluster : clusters.values()) {
+            for (int axis = 0; axis < 3; axis++) {
+                cluster[axis] = Double.isNaN(cluster[4 + axis]) ? cluster[axis] / cluster[3] : cluster[4 + axis];
+            }
+        }
+
+        for (int p = 0; p < primitives.size(); p++) {
+            simplifyPrimitive(primitives.get(p), positions.get(p), clusters, min, cell, resolution);
+        }
+    }
+
+    private void simplifyPrimitive(ObjectNode primitive, float[] positions, Map<Long, double[]> clusters,
+                                   double[] min, double cell, int resolution) {
+        JsonNode accessors = json.path("accessors");
+        ObjectNode attributes = (ObjectNode) primitive.get("attributes");
+        int vertexCount = positions.length / 3;
+        int[] indices = primitive.has("indices") ? readIndices(accessors.get(primitive.get("indices").asInt())) : null;
+        int cornerCount = indices != null ? indices.length : vertexCount;
+
+        // POSITION 외 속성은 꼭짓점 원본 바이트 그대로
+        List<String> names = new ArrayList<>();
+        List<byte[][]> elements = new ArrayList<>();
+        attributes.properties().forEach(attribute -> {
+            if (!attribute.getKey().equals("POSITION")) {
+                names.add(attribute.getKey());
+                elements.add(readElements(accessors.get(attribute.getValue().asInt())));
+            }
+        });
+
+        Map<ByteBuffer, Integer> outputVertices = new HashMap<>();
+        List<long[]> vertexSources = new ArrayList<>();  // [칸, 원본 정점]
+        List<int[]> triangles = new ArrayList<>();
+        Set<List<Integer>> seen = new HashSet<>();
+        for (int t = 0; t + 2 < cornerCount; t += 3) {
+            int[] corners = new int[3];
+            long[] keys = new long[3];
+            for (int c = 0; c < 3; c++) {
+                corners[c] = indices != null ? indices[t + c] : t + c;
+                keys[c] = clusterKey(positions, corners[c], min, cell, resolution);
+            }
+            if (keys[0] == keys[1] || keys[1] == keys[2] || keys[0] == keys[2]) {
+                continue;  // 퇴화 삼각형
+            }
+            int[] triangle = new int[3];
+            for (int c = 0; c < 3; c++) {
+                int corner = corners[c];
+                long cluster = keys[c];
+                ByteBuffer key = ByteBuffer.allocate(8 + elements.stream().mapToInt(e -> e[corner].length).sum());
+                key.putLong(cluster);
+                for (byte[][] element : elements) {
+                    key.put(element[corner]);
+                }
+                key.flip();
+                triangle[c] = outputVertices.computeIfAbsent(key, k -> {
+                    vertexSources.add(new long[]{cluster, corner});
+                    return vertexSources.size() - 1;
+                });
+            }
+            // 회전만 다른 같은 삼각형 제거
+            int first = triangle[0] < triangle[1] ? (triangle[0] < triangle[2] ? 0 : 2) : (triangle[1] < triangle[2] ? 1 : 2);
+            if (seen.add(List.of(triangle[first], triangle[(first + 1) % 3], triangle[(first + 2) % 3]))) {
+                triangles.add(triangle);
+            }
+        }
+        if (triangles.isEmpty() || triangles.size() * 3 >= cornerCount) {
+            return;
+        }
+
+        int count = vertexSources.size();
+        ByteBuffer positionData = ByteBuffer.allocate(count * 12).order(ByteOrder.LITTLE_ENDIAN);
+        double[] outMin = {Double.POSITIVE_INFINITY, Double.POSITIVE_INFINITY, Double.POSITIVE_INFINITY};
+        double[] outMax = {Double.NEGATIVE_INFINITY, Double.NEGATIVE_INFINITY, Double.NEGATIVE_INFINITY};
+        for (long[] source : vertexSources) {
+            double[] cluster = clusters.get(source[0]);
+            for (int axis = 0; axis < 3; axis++) {
+                float value = (float) cluster[axis];
+                positionData.putFloat(value);
+                outMin[axis] = Math.min(outMin[axis], value);
+                outMax[axis] = Math.max(outMax[axis], value);
+            }
+        }
+        ObjectNode position = newAccessor(addView(positionData.array(), null, ARRAY_BUFFER), FLOAT, false, count, "VEC3");
+        position.set("min", json.arrayNode().add(outMin[0]).add(outMin[1]).add(outMin[2]));
+        position.set("max", json.arrayNode().add(outMax[0]).add(outMax[1]).add(outMax[2]));
+        attributes.put("POSITION", addAccessor(position));
+
+        for (int a = 0; a < names.size(); a++) {
+            JsonNode original = accessors.get(attributes.get(names.get(a)).asInt());
+            byte[][] element = elements.get(a);
+            int size = element[0].length;
+            int stride = Glb.align(size);
+            byte[] data = new byte[count * stride];
+            for (int v = 0; v < count; v++) {
+                System.arraycopy(element[(int) vertexSources.get(v)[1]], 0, data, v * stride, size);
+            }
+            ObjectNode accessor = newAccessor(addView(data, stride, ARRAY_BUFFER), original.get("componentType").asInt(),
+                    original.path("normalized").asBoolean(false), count, original.get("type").asText());
+            attributes.put(names.get(a), addAccessor(accessor));
+        }
+
+        ByteBuffer indexData = ByteBuffer.allocate(triangles.size() * 12).order(ByteOrder.LITTLE_ENDIAN);
+        for (int[] triangle : triangles) {
+            indexData.putInt(triangle[0]).putInt(triangle[1]).putInt(triangle[2]);
+        }
+        primitive.put("indices", addAccessor(newAccessor(addView(indexData.array(), null, ELEMENT_ARRAY_BUFFER),
+                UNSIGNED_INT, false, triangles.size() * 3, "SCALAR")));
+    }
+
+    private static long clusterKey(float[] positions, int vertex, double[] min, double cell, int resolution) {
+        long key = 0;
+        for (int axis = 0; axis < 3; axis++) {
+            long index = Math.min(resolution - 1, (long) ((positions[vertex * 3 + axis] - min[axis]) / cell));
+            key = key * resolution + Math.max(0, index);
+        }
+        return key;
+    }
+
+    private int[] readIndices(JsonNode accessor) {
+        int componentType = accessor.path("componentType").asInt();
+        int size = componentType == UNSIGNED_INT ? 4 : componentType == UNSIGNED_SHORT ? 2 : 1;
+        int base = accessor.path("byteOffset").asInt(0);
+        ByteBuffer in = ByteBuffer.wrap(views.get(accessor.get("bufferView").asInt())).order(ByteOrder.LITTLE_ENDIAN);
+        int[] indices = new int[accessor.path("count").asInt()];
+        for (int i = 0; i < indices.length; i++) {
+            int offset = base + i * size;
+            indices[i] = size == 4 ? in.getInt(offset) : size == 2 ? Short.toUnsignedInt(in.getShort(offset)) : Byte.toUnsignedInt(in.get(offset));
+        }
+        return indices;
+    }
+
+    // 접근자 원소별 원본 바이트 (byteStride 반영)
+    private byte[][] readElements(JsonNode accessor) {
+        int componentType = accessor.path("componentType").asInt();
+        int componentSize = componentType == FLOAT || componentType == UNSIGNED_INT ? 4
+                : componentType == SHORT || componentType == UNSIGNED_SHORT ? 2 : 1;
+        int size = componentSize * switch (accessor.path("type").asText()) {
+            case "VEC2" -> 2;
+            case "VEC3" -> 3;
+            case "VEC4", "MAT2" -> 4;
+            case "MAT3" -> 9;
+            case "MAT4" -> 16;
+            default -> 1;
+        };
+        int view = accessor.get("bufferView").asInt();
+        int stride = json.path("bufferViews").path(view).path("byteStride").asInt(size);
+        int base = accessor.path("byteOffset").asInt(0);
+        byte[] data = views.get(view);
+        byte[][] elements = new byte[accessor.path("count").asInt()][];
+        for (int i = 0; i < elements.length; i++) {
+            elements[i] = Arrays.copyOfRange(data, base + i * stride, base + i * stride + size);
+        }
+        return elements;
+    }
+
+    /**
+     * 정점 속성과 인덱스를 작은 타입으로 변환 (변환된 원본 접근자는 pack()에서 정리)
+     */
+    void quantize() {
+        JsonNode meshes = json.path("meshes");
+        ArrayNode nodes = (ArrayNode) json.get("nodes");
+        if (meshes.isEmpty() || nodes == null) {
+            return;
+        }
+        Map<Integer, List<ObjectNode>> users = new LinkedHashMap<>();
+        for (JsonNode node : nodes) {
+            if (node.has("mesh")) {
+                users.computeIfAbsent(node.get("mesh").asInt(), k -> new ArrayList<>()).add((ObjectNode) node);
+            }
+        }
+        Map<Integer, Integer> normals = new HashMap<>();
+        Map<Integer, Integer> texcoords = new HashMap<>();
+        Map<Integer, Integer> indices = new HashMap<>();
+        for (Map.Entry<Integer, List<ObjectNode>> entry : users.entrySet()) {
+            JsonNode mesh = meshes.path(entry.getKey());
+            boolean pivotSafe = entry.getValue().stream().noneMatch(node -> node.has("camera") || node.has("extensions"));
+            double scale = pivotSafe ? positionScale(mesh) : Double.NaN;
+            Map<Integer, Integer> positions = new HashMap<>();
+            for (JsonNode primitive : mesh.path("primitives")) {
+                ObjectNode attributes = (ObjectNode) primitive.get("attributes");
+                Iterator<Map.Entry<String, JsonNode>> fields = attributes.properties().iterator();
+                while (fields.hasNext()) {
+                    Map.Entry<String, JsonNode> attribute = fields.next();
+                    String name = attribute.getKey();
+                    int accessor = attribute.getValue().asInt();
+                    int converted = -1;
+                    if (name.equals("POSITION") && !Double.isNaN(scale)) {
+                        converted = positions.computeIfAbsent(accessor, a -> quantizePositions(a, scale));
+                    } else if (name.equals("NORMAL") || name.equals("TANGENT")) {
+                        converted = normals.computeIfAbsent(accessor, this::quantizeDirections);
+                    } else if (name.startsWith("TEXCOORD_")) {
+                        converted = texcoords.computeIfAbsent(accessor, this::quantizeTexcoords);
+                    }
+                    if (converted >= 0) {
+                        attribute.setValue(json.numberNode(converted));
+                        stats.quantizedAttributes++;
+                    }
+                }
+                if (primitive.has("indices")) {
+                    int converted = indices.computeIfAbsent(primitive.get("indices").asInt(), this::narrowIndices);
+                    if (converted >= 0) {
+                        ((ObjectNode) primitive).put("indices", converted);
+                    }
+                }
+            }
+            if (!positions.isEmpty()) {
+                for (ObjectNode node : entry.getValue()) {
+                    scaleNode(node, scale);
+                    for (JsonNode child : node.path("children")) {
+                        unscaleNode((ObjectNode) nodes.get(child.asInt()), scale);
+                    }
+                }
+                stats.quantizedMeshes++;
+            }
+        }
+        if (stats.quantizedAttributes > 0) {
+            addExtension("extensionsUsed");
+            addExtension("extensionsRequired");
+        }
+    }
+
+    /**
+     * 메시 전체 POSITION의 최대 절댓값 (양자화할 수 없으면 NaN)
+     */
+    private double positionScale(JsonNode mesh) {
+        double maxAbs = 0;
+        double extent = 0;
+        for (JsonNode primitive : mesh.path("primitives")) {
+            JsonNode accessor = json.path("accessors").path(primitive.path("attributes").path("POSITION").asInt(-1));
+            if (primitive.has("targets") || !isFloat(accessor, "VEC3")) {
+                return Double.NaN;
+            }
+            float[] values = readFloats(accessor, 3);
+            for (int axis = 0; axis < 3; axis++) {
+                double min = Double.POSITIVE_INFINITY;
+                double max = Double.NEGATIVE_INFINITY;
+                for (int i = axis; i < values.length; i += 3) {
+                    min = Math.min(min, values[i]);
+                    max = Math.max(max, values[i]);
+                }
+                maxAbs = Math.max(maxAbs, Math.max(Math.abs(min), Math.abs(max)));
+                extent = Math.max(extent, max - min);
+            }
+        }
+        if (!(maxAbs > 0) || Double.isInfinite(maxAbs) || maxAbs / 32767 > extent * MIN_POSITION_PRECISION) {
+            return Double.NaN;
+        }
+        return maxAbs;
+    }
+
+    private int quantizePositions(int accessorIndex, double scale) {
+        JsonNode accessor = json.get("accessors").get(accessorIndex);
+        float[] values = readFloats(accessor, 3);
+        int count = values.length / 3;
+        ByteBuffer out = ByteBuffer.allocate(count * 8).order(ByteOrder.LITTLE_ENDIAN);
+        int[] min = {Short.MAX_VALUE, Short.MAX_VALUE, Short.MAX_VALUE};
+        int[] max = {Short.MIN_VALUE, Short.MIN_VALUE, Short.MIN_VALUE};
+        for (int i = 0; i < count; i++) {
+            for (int axis = 0; axis < 3; axis++) {
+                int q = quantize(values[i * 3 + axis] / scale, 32767);
+                min[axis] = Math.min(min[axis], q);
+                max[axis] = Math.max(max[axis], q);
+                out.putShort((short) q);
+            }
+            out.putShort((short) 0);
+        }
+        ObjectNode quantized = newAccessor(addView(out.array(), 8, ARRAY_BUFFER), SHORT, true, count, "VEC3");
+        quantized.set("min", json.arrayNode().add(min[0]).add(min[1]).add(min[2]));
+        quantized.set("max", json.arrayNode().add(max[0]).add(max[1]).add(max[2]));
+        return addAccessor(quantized);
+    }
+
+    private int quantizeDirections(int accessorIndex) {
+        JsonNode accessor = json.get("accessors").get(accessorIndex);
+        String type = accessor.path("type").asText();
+        if (!(isFloat(accessor, "VEC3") || isFloat(accessor, "VEC4"))) {
+            return -1;
+        }
+        int components = type.equals("VEC3") ? 3 : 4;
+        float[] values = readFloats(accessor, components);
+        int count = values.length / components;
+        ByteBuffer out = ByteBuffer.allocate(count * 4);
+        for (int i = 0; i < count; i++) {
+            for (int c = 0; c < 4; c++) {
+                out.put(c < components ? (byte) quantize(values[i * components + c], 127) : 0);
+            }
+        }
+        return addAccessor(newAccessor(addView(out.array(), 4, ARRAY_BUFFER), BYTE, true, count, type));
+    }
+
+    private int quantizeTexcoords(int accessorIndex) {
+        JsonNode accessor = json.get("accessors").get(accessorIndex);
+        if (!isFloat(accessor, "VEC2")) {
+            return -1;
+        }
+        float[] values = readFloats(accessor, 2);
+        for (float value : values) {
+            if (!(value >= 0 && value <= 1)) {
+                return -1;  // 반복 UV - float 유지
+            }
+        }
+        ByteBuffer out = ByteBuffer.allocate(values.length * 2).order(ByteOrder.LITTLE_ENDIAN);
+        for (float value : values) {
+            out.putShort((short) quantize(value, 65535));
+        }
+        return addAccessor(newAccessor(addView(out.array(), 4, ARRAY_BUFFER), UNSIGNED_SHORT, true, values.length / 2, "VEC2"));
+    }
+
+    private int narrowIndices(int accessorIndex) {
+        JsonNode accessor = json.get("accessors").get(accessorIndex);
+        if (accessor.path("componentType").asInt() != UNSIGNED_INT || !accessor.has("bufferView")
+                || !accessor.path("type").asText().equals("SCALAR")) {
+            return -1;
+        }
+        int count = accessor.path("count").asInt();
+        ByteBuffer in = ByteBuffer.wrap(views.get(accessor.get("bufferView").asInt())).order(ByteOrder.LITTLE_ENDIAN);
+        int base = accessor.path("byteOffset").asInt(0);
+        ByteBuffer out = ByteBuffer.allocate(count * 2).order(ByteOrder.LITTLE_ENDIAN);
+        for (int i = 0; i < count; i++) {
+            int index = in.getInt(base + i * 4);
+            if (index < 0 || index >= 0xFFFF) {
+                return -1;  // 65535는 primitive restart 값
+            }
+            out.putShort((short) index);
+        }
+        stats.narrowedIndices++;
+        return addAccessor(newAccessor(addView(out.array(), null, ELEMENT_ARRAY_BUFFER), UNSIGNED_SHORT, false, count, "SCALAR"));
+    }
+
+    private static int quantize(double value, int range) {
+        long q = Math.round(value * range);
+        int low = range == 65535 ? 0 : -range;
+        return (int) Math.max(low, Math.min(range, q));
+    }
+
+    /**
+     * 노드 변환 뒤에 균등 배율 적용: M' = M * Scale(s) (translation/rotation 유지 -> 피벗 회전 동작 동일)
+     */
+    private void scaleNode(ObjectNode node, double scale) {
+        if (node.has("matrix")) {
+            ArrayNode matrix = (ArrayNode) node.get("matrix");
+            for (int i = 0; i < 12; i++) {
+                if (i % 4 != 3) {
+                    matrix.set(i, matrix.get(i).asDouble() * scale);
+                }
+            }
+            return;
+        }
+        ArrayNode values = json.arrayNode();
+        for (int axis = 0; axis < 3; axis++) {
+            values.add(node.path("scale").path(axis).asDouble(1) * scale);
+        }
+        node.set("scale", values);
+    }
+
+    /**
+     * 자식 노드에 역배율 적용: M_c' = Scale(1/s) * M_c (부모 배율 상쇄)
+     */
+    private void unscaleNode(ObjectNode node, double scale) {
+        if (node.has("matrix")) {
+            ArrayNode matrix = (ArrayNode) node.get("matrix");
+            for (int i = 0; i < 16; i++) {
+                if (i % 4 != 3) {
+                    matrix.set(i, matrix.get(i).asDouble() / scale);
+                }
+            }
+            return;
+        }
+        ArrayNode translation = json.arrayNode();
+        ArrayNode values = json.arrayNode();
+        for (int axis = 0; axis < 3; axis++) {
+            translation.add(node.path("translation").path(axis).asDouble(0) / scale);
+            values.add(node.path("scale").path(axis).asDouble(1) / scale);
+        }
+        node.set("translation", translation);
+        node.set("scale", values);
+    }
+
+    private void addExtension(String field) {
+        ArrayNode extensions = json.has(field) ? (ArrayNode) json.get(field) : json.putArray(field);
+        for (JsonNode extension : extensions) {
+            if (extension.asText().equals(MESH_QUANTIZATION)) {
+                return;
+            }
+        }
+        extensions.add(MESH_QUANTIZATION);
+    }
+
+    /**
+     * 동일 bufferView/접근자 병합, 참조되지 않는 항목 제거, BIN 청크 재배치
+     */
+    Glb pack() {
+        mergeDuplicates();
+
+        boolean[] meshes = used("meshes", this::rewriteMeshRefs);
+        stats.removedMeshes += compact("meshes", meshes, this::rewriteMeshRefs);
+        stats.removedMaterials += compact("materials", used("materials", this::rewriteMaterialRefs), this::rewriteMaterialRefs);
+        compact("accessors", used("accessors", this::rewriteAccessorRefs), this::rewriteAccessorRefs);
+        stats.removedTextures += compact("textures", used("textures", this::rewriteTextureRefs), this::rewriteTextureRefs);
+        compact("samplers", used("samplers", this::rewriteSamplerRefs), this::rewriteSamplerRefs);
+        compact("images", used("images", this::rewriteImageRefs), this::rewriteImageRefs);
+
+        boolean[] usedViews = used("bufferViews", this::rewriteViewRefs);
+        List<byte[]> keptViews = new ArrayList<>();
+        for (int i = 0; i < usedViews.length; i++) {
+            if (usedViews[i]) {
+                keptViews.add(views.get(i));
+            }
+        }
+        compact("bufferViews", usedViews, this::rewriteViewRefs);
+        views.clear();
+        views.addAll(keptViews);
+
+        ByteArrayOutputStream bin = new ByteArrayOutputStream();
+        JsonNode bufferViews = json.path("bufferViews");
+        for (int i = 0; i < views.size(); i++) {
+            while (bin.size() % 4 != 0) {
+                bin.write(0);
+            }
+            ObjectNode view = (ObjectNode) bufferViews.get(i);
+            view.put("buffer", 0);
+            view.put("byteOffset", bin.size());
+            view.put("byteLength", views.get(i).length);
+            bin.writeBytes(views.get(i));
+        }
+        if (views.isEmpty()) {
+            json.remove("buffers");
+        } else {
+            json.putArray("buffers").addObject().put("byteLength", bin.size());
+        }
+        return new Glb(json, bin.toByteArray());
+    }
+
+    private void mergeDuplicates() {
+        record ViewKey(ByteBuffer data, int stride, int target) {
+        }
+        JsonNode bufferViews = json.path("bufferViews");
+        Map<ViewKey, Integer> firstView = new HashMap<>();
+        int[] viewAlias = new int[views.size()];
+        for (int i = 0; i < viewAlias.length; i++) {
+            JsonNode view = bufferViews.get(i);
+            ViewKey key = new ViewKey(ByteBuffer.wrap(views.get(i)),
+                    view.path("byteStride").asInt(0), view.path("target").asInt(0));
+            Integer first = firstView.putIfAbsent(key, i);
+            viewAlias[i] = first != null ? first : i;
+        }
+        rewriteViewRefs(i -> viewAlias[i]);
+
+        // bufferView 병합 후 내용이 같아진 접근자 병합
+        JsonNode accessors = json.path("accessors");
+        Map<JsonNode, Integer> firstAccessor = new HashMap<>();
+        int[] accessorAlias = new int[accessors.size()];
+        for (int i = 0; i < accessorAlias.length; i++) {
+            Integer first = firstAccessor.putIfAbsent(accessors.get(i), i);
+            accessorAlias[i] = first != null ? first : i;
+        }
+        rewriteAccessorRefs(i -> accessorAlias[i]);
+    }
+
+    /**
+     * 참조 여부 표시 (rewrite는 참조를 그대로 두고 방문만 함)
+     */
+    private boolean[] used(String field, Consumer<IntUnaryOperator> rewrite) {
+        boolean[] used = new boolean[json.path(field).size()];
+        rewrite.accept(i -> {
+            if (i >= 0 && i < used.length) {
+                used[i] = true;
+            }
+            return i;
+        });
+        return used;
+    }
+
+    /**
+     * 사용하지 않는 항목을 배열에서 빼고 참조 인덱스를 다시 매김 (빈 배열은 필드째 제거) - 제거한 개수 반환
+     */
+    private int compact(String field, boolean[] keep, Consumer<IntUnaryOperator> rewrite) {
+        JsonNode array = json.get(field);
+        if (array == null) {
+            return 0;
+        }
+        int[] remap = new int[array.size()];
+        ArrayNode kept = json.arrayNode();
+        for (int i = 0; i < remap.length; i++) {
+            remap[i] = keep[i] ? kept.size() : -1;
+            if (keep[i]) {
+                kept.add(array.get(i));
+            }
+        }
+        if (kept.isEmpty()) {
+            json.remove(field);
+        } else {
+            json.set(field, kept);
+        }
+        rewrite.accept(i -> i >= 0 && i < remap.length ? remap[i] : i);
+        return remap.length - kept.size();
+    }
+
+    private void rewriteNodeRefs(IntUnaryOperator op) {
+        for (JsonNode node : json.path("nodes")) {
+            rewriteArray((ObjectNode) node, "children", op);
+        }
+        for (JsonNode scene : json.path("scenes")) {
+            rewriteArray((ObjectNode) scene, "nodes", op);
+        }
+    }
+
+    private void rewriteMeshRefs(IntUnaryOperator op) {
+        for (JsonNode node : json.path("nodes")) {
+            rewriteField((ObjectNode) node, "mesh", op);
+        }
+    }
+
+    private void rewriteMaterialRefs(IntUnaryOperator op) {
+        for (JsonNode mesh : json.path("meshes")) {
+            for (JsonNode primitive : mesh.path("primitives")) {
+                rewriteField((ObjectNode) primitive, "material", op);
+            }
+        }
+    }
+
+    private void rewriteAccessorRefs(IntUnaryOperator op) {
+        for (JsonNode mesh : json.path("meshes")) {
+            for (JsonNode primitive : mesh.path("primitives")) {
+                rewriteFields((ObjectNode) primitive.get("attributes"), op);
+                rewriteField((ObjectNode) primitive, "indices", op);
+                for (JsonNode target : primitive.path("targets")) {
+                    rewriteFields((ObjectNode) target, op);
+                }
+            }
+        }
+    }
+
+    private void rewriteTextureRefs(IntUnaryOperator op) {
+        for (JsonNode material : json.path("materials")) {
+            rewriteTextureInfos(material, null, op);
+        }
+    }
+
+    // 머티리얼 안의 textureInfo (baseColorTexture, normalTexture, 확장의 *Texture 등)
+    private static void rewriteTextureInfos(JsonNode node, String name, IntUnaryOperator op) {
+        if (node.isObject()) {
+            if (name != null && name.endsWith("Texture") && node.has("index")) {
+                rewriteField((ObjectNode) node, "index", op);
+            }
+            node.properties().forEach(field -> rewriteTextureInfos(field.getValue(), field.getKey(), op));
+        } else if (node.isArray()) {
+            node.forEach(element -> rewriteTextureInfos(element, name, op));
+        }
+    }
+
+    private void rewriteImageRefs(IntUnaryOperator op) {
+        for (JsonNode texture : json.path("textures")) {
+            rewriteField((ObjectNode) texture, "source", op);
+            for (JsonNode extension : texture.path("extensions")) {
+                if (extension.isObject()) {
+                    rewriteField((ObjectNode) extension, "source", op);
+                }
+            }
+        }
+    }
+
+    private void rewriteSamplerRefs(IntUnaryOperator op) {
+        for (JsonNode texture : json.path("textures")) {
+            rewriteField((ObjectNode) texture, "sampler", op);
+        }
+    }
+
+    private void rewriteViewRefs(IntUnaryOperator op) {
+        for (JsonNode accessor : json.path("accessors")) {
+            rewriteField((ObjectNode) accessor, "bufferView", op);
+        }
+        for (JsonNode image : json.path("images")) {
+            rewriteField((ObjectNode) image, "bufferView", op);
+        }
+    }
+
+    private static void rewriteField(ObjectNode node, String field, IntUnaryOperator op) {
+        if (node != null && node.has(field)) {
+            node.put(field, op.applyAsInt(node.get(field).asInt()));
+        }
+    }
+
+    private static void rewriteFields(ObjectNode node, IntUnaryOperator op) {
+        if (node != null) {
+            node.properties().forEach(field -> field.setValue(node.numberNode(op.applyAsInt(field.getValue().asInt()))));
+        }
+    }
+
+    private static void rewriteArray(ObjectNode node, String field, IntUnaryOperator op) {
+        JsonNode array = node.get(field);
+        if (array == null) {
+            return;
+        }
+        ArrayNode rewritten = node.arrayNode();
+        for (JsonNode element : array) {
+            int index = op.applyAsInt(element.asInt());
+            if (index >= 0) {
+                rewritten.add(index);
+            }
+        }
+        if (rewritten.isEmpty()) {
+            node.remove(field);
+        } else {
+            node.set(field, rewritten);
+        }
+    }
+
+    private static boolean isFloat(JsonNode accessor, String type) {
+        return accessor.path("componentType").asInt() == FLOAT && accessor.path("type").asText().equals(type)
+                && accessor.has("bufferView") && !accessor.path("normalized").asBoolean(false);
+    }
+
+    private float[] readFloats(JsonNode accessor, int components) {
+        int view = accessor.get("bufferView").asInt();
+        int stride = json.path("bufferViews").path(view).path("byteStride").asInt(components * 4);
+        int base = accessor.path("byteOffset").asInt(0);
+        int count = accessor.path("count").asInt();
+        ByteBuffer in = ByteBuffer.wrap(views.get(view)).order(ByteOrder.LITTLE_ENDIAN);
+        float[] values = new float[count * components];
+        for (int i = 0; i < count; i++) {
+            for (int c = 0; c < components; c++) {
+                values[i * components + c] = in.getFloat(base + i * stride + c * 4);
+            }
+        }
+        return values;
+    }
+
+    private int addView(byte[] data, Integer stride, int target) {
+        ArrayNode bufferViews = (ArrayNode) json.get("bufferViews");
+        ObjectNode view = bufferViews.addObject().put("buffer", 0).put("byteLength", data.length);
+        if (stride != null) {
+            view.put("byteStride", stride);
+        }
+        view.put("target", target);
+        views.add(data);
+        return bufferViews.size() - 1;
+    }
+
+    private ObjectNode newAccessor(int view, int componentType, boolean normalized, int count, String type) {
+        ObjectNode accessor = json.objectNode().put("bufferView", view).put("componentType", componentType);
+        if (normalized) {
+            accessor.put("normalized", true);
+        }
+        return accessor.put("count", count).put("type", type);
+    }
+
+    private int addAccessor(ObjectNode accessor) {
+        ArrayNode accessors = (ArrayNode) json.get("accessors");
+        accessors.add(accessor);
+        return accessors.size() - 1;
+    }
+
+    static final class Stats {
+        int removedNodes;
+        int removedMeshes;
+        int removedMaterials;
+        int removedTextures;
+        int externalizedImages;
+        int quantizedMeshes;
+        int quantizedAttributes;
+        int narrowedIndices;
+
+        @Override
+        public String toString() {
+            List<String> parts = new ArrayList<>();
+            append(parts, "shared images", externalizedImages);
+            append(parts, "quantized meshes", quantizedMeshes);
+            append(parts, "quantized attributes", quantizedAttributes);
+            append(parts, "16-bit indices", narrowedIndices);
+            append(parts, "removed nodes", removedNodes);
+            append(parts, "removed meshes", removedMeshes);
+            append(parts, "removed materials", removedMaterials);
+            append(parts, "removed textures", removedTextures);
+            return String.join(", ", parts);
+        }
+
+        private static void append(List<String> parts, String label, int value) {
+            if (value > 0) {
+                parts.add(label + " " + value);
+            }
+        }
+    }
+}
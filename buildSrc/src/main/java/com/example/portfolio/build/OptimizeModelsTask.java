@@ -0,0 +1,305 @@
+package com.example.portfolio.build;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.gradle.api.DefaultTask;
+import org.gradle.api.file.DirectoryProperty;
+import org.gradle.api.file.FileSystemOperations;
+import org.gradle.api.file.FileTree;
+import org.gradle.api.file.RegularFileProperty;
+import org.gradle.api.provider.ListProperty;
+import org.gradle.api.provider.Property;
+import org.gradle.api.tasks.IgnoreEmptyDirectories;
+import org.gradle.api.tasks.Input;
+import org.gradle.api.tasks.InputFiles;
+import org.gradle.api.tasks.OutputDirectory;
+import org.gradle.api.tasks.OutputFile;
+import org.gradle.api.tasks.PathSensitive;
+import org.gradle.api.tasks.PathSensitivity;
+import org.gradle.api.tasks.TaskAction;
+
+import javax.inject.Inject;
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+
+/**
+ * 정적 GLB 모델 최적화 - 같은 static/ 기준 경로로 최적화된 트리와 전후 크기 보고서를 만든다.
+ * lodModels에 포함된 모델은 단계별 단순화본(LOD)과 색인(lodIndexFile)도 만든다.
+ *
+ * 여러 파일에 똑같이 내장된 이미지는 {sharedDirectory}/{해시}.{확장자} 한 벌로 빼고 상대 uri로 참조한다
+ * (클라이언트는 한 번만 받고 HTTP 캐시를 공유). 나머지는 GltfOptimizer가 파일 단위로 처리한다.
+ * 최적화할 수 없는 파일은 그대로 복사하고 보고서에 이유를 남긴다.
+ */
+public abstract class OptimizeModelsTask extends DefaultTask {
+
+    // 이전 단계 대비 삼각형이 이 비율 이하로 줄어야 LOD 단계로 씀
+    private static final double MIN_LOD_REDUCTION = 0.7;
+
+    private FileTree models;
+    private FileTree lodModels;
+
+    @InputFiles
+    @PathSensitive(PathSensitivity.RELATIVE)
+    @IgnoreEmptyDirectories
+    public FileTree getModels() {
+        return models;
+    }
+
+    /**
+     * static/ 기준 파일 트리 (상대 경로가 그대로 출력 경로가 됨)
+     */
+    public void setModels(FileTree models) {
+        this.models = models;
+    }
+
+    @InputFiles
+    @PathSensitive(PathSensitivity.RELATIVE)
+    @IgnoreEmptyDirectories
+    public FileTree getLodModels() {
+        return lodModels;
+    }
+
+    /**
+     * LOD를 만들 모델 (models의 부분 집합)
+     */
+    public void setLodModels(FileTree lodModels) {
+        this.lodModels = lodModels;
+    }
+
+    @Input
+    public abstract Property<String> getSharedDirectory();
+
+    /**
+     * LOD 출력 위치 - {lodDirectory}/{단계}/{models/ 아래 경로}
+     */
+    @Input
+    public abstract Property<String> getLodDirectory();
+
+    /**
+     * 단계별 단순화 격자 크기 (1단계부터, 작을수록 거침)
+     */
+    @Input
+    public abstract ListProperty<Integer> getLodResolutions();
+
+    /**
+     * 단계별 화면 크기 기준 - 모델이 화면 높이의 이 비율보다 작게 보이면 그 단계 사용
+     */
+    @Input
+    public abstract ListProperty<Double> getLodScreenSizes();
+
+    @OutputDirectory
+    public abstract DirectoryProperty getOutputDirectory();
+
+    @OutputFile
+    public abstract RegularFileProperty getReportFile();
+
+    /**
+     * 모델 경로 -> LOD 단계 목록 (classpath:model-lods.json)
+     */
+    @OutputFile
+    public abstract RegularFileProperty getLodIndexFile();
+
+    @Inject
+    protected abstract FileSystemOperations getFileSystemOperations();
+
+    @TaskAction
+    public void optimize() throws IOException {
+        ObjectMapper objectMapper = new ObjectMapper();
+        Path output = getOutputDirectory().get().getAsFile().toPath();
+        getFileSystemOperations().delete(spec -> spec.delete(output.toFile()));
+        Files.createDirectories(output);
+
+        Map<String, File> files = relativeFiles(models);
+        Set<String> lodPaths = relativeFiles(lodModels).keySet();
+
+        // 1차: 파일별 내장 이미지 해시 -> 두 파일 이상에서 쓰이면 공유
+        Map<String, Set<String>> imageUsers = new TreeMap<>();
+        for (Map.Entry<String, File> entry : files.entrySet()) {
+            GltfOptimizer optimizer = open(entry.getValue(), objectMapper);
+            if (optimizer != null) {
+                for (byte[] image : optimizer.embeddedImages().values()) {
+                    imageUsers.computeIfAbsent(hash(image), k -> new TreeSet<>()).add(entry.getKey());
+                }
+            }
+        }
+
+        // 2차: 최적화 (+ LOD 대상이면 단계별 단순화본)
+        Map<String, Long> sharedImages = new LinkedHashMap<>();
+        Map<String, Object> lodIndex = new TreeMap<>();
+        StringBuilder report = new StringBuilder();
+        long before = 0;
+        long after = 0;
+        long lodBytes = 0;
+        int lodFiles = 0;
+        for (Map.Entry<String, File> entry : files.entrySet()) {
+            String path = entry.getKey();
+            byte[] original = Files.readAllBytes(entry.getValue().toPath());
+            Result result = optimize(entry.getValue(), path, 0, output, imageUsers, sharedImages, objectMapper);
+            byte[] optimized = result != null ? result.data() : original;
+            write(output.resolve(path), optimized);
+            before += original.length;
+            after += optimized.length;
+            report.append(String.format("%-72s %10d -> %10d  %4d%%  %s%n", path, original.length, optimized.length,
+                    percent(optimized.length, original.length),
+                    result != null ? result.notes() : "copied: " + skipReason(original, objectMapper)));
+
+            if (result == null || !lodPaths.contains(path)) {
+                continue;
+            }
+            List<Map<String, Object>> levels = new ArrayList<>();
+            int previous = result.triangles();
+            for (int level = 1; level <= getLodResolutions().get().size(); level++) {
+                String lodPath = getLodDirectory().get() + "/" + level + "/" + path.substring(path.indexOf('/') + 1);
+                Result lod = optimize(entry.getValue(), lodPath, getLodResolutions().get().get(level - 1),
+                        output, imageUsers, sharedImages, objectMapper);
+                if (lod.triangles() > previous * MIN_LOD_REDUCTION) {
+                    continue;  // 이전 단계와 차이가 작으면 생략
+                }
+                write(output.resolve(lodPath), lod.data());
+                Map<String, Object> lodEntry = new LinkedHashMap<>();
+                lodEntry.put("level", level);
+                lodEntry.put("path", lodPath);
+                lodEntry.put("triangles", lod.triangles());
+                lodEntry.put("screenSize", getLodScreenSizes().get().get(level - 1));
+                levels.add(lodEntry);
+                previous = lod.triangles();
+                lodBytes += lod.data().length;
+                lodFiles++;
+                report.append(String.format("%-72s %10s -> %10d  %4d%%  triangles %d -> %d%n", lodPath, "", lod.data().length,
+                        percent(lod.data().length, optimized.length), result.triangles(), lod.triangles()));
+            }
+            if (!levels.isEmpty()) {
+                Map<String, Object> model = new LinkedHashMap<>();
+                model.put("triangles", result.triangles());
+                model.put("lods", levels);
+                lodIndex.put(path, model);
+            }
+        }
+
+        long shared = sharedImages.values().stream().mapToLong(Long::longValue).sum();
+        StringBuilder summary = new StringBuilder()
+                .append(String.format("models: %d files, %d -> %d bytes (%d%%)%n", files.size(), before, after, percent(after, before)))
+                .append(String.format("shared images: %d files, %d bytes%n", sharedImages.size(), shared))
+                .append(String.format("total served: %d -> %d bytes (%d%%)%n", before, after + shared, percent(after + shared, before)))
+                .append(String.format("LODs: %d files for %d models, %d bytes%n%n", lodFiles, lodIndex.size(), lodBytes));
+        sharedImages.forEach((sharedPath, size) -> summary.append(String.format("%-72s %10d  used by %d models%n",
+                sharedPath, size, imageUsers.get(sharedPath.substring(sharedPath.lastIndexOf('/') + 1, sharedPath.lastIndexOf('.'))).size())));
+        summary.append(System.lineSeparator());
+
+        File reportFile = getReportFile().get().getAsFile();
+        write(reportFile.toPath(), (summary.toString() + report).getBytes(StandardCharsets.UTF_8));
+        write(getLodIndexFile().get().getAsFile().toPath(), objectMapper.writerWithDefaultPrettyPrinter().writeValueAsBytes(lodIndex));
+        getLogger().lifecycle("optimizeModels: {} models, {} MB -> {} MB (shared images {} KB, LODs {} KB) - {}",
+                files.size(), before >> 20, (after + shared) >> 20, shared >> 10, lodBytes >> 10, reportFile);
+    }
+
+    private record Result(byte[] data, int triangles, String notes) {
+    }
+
+    /**
+     * 한 파일 최적화 (lodResolution > 0이면 그 격자로 단순화) - 최적화할 수 없으면 null
+     */
+    private Result optimize(File file, String path, int lodResolution, Path output, Map<String, Set<String>> imageUsers,
+                            Map<String, Long> sharedImages, ObjectMapper objectMapper) throws IOException {
+        GltfOptimizer optimizer = open(file, objectMapper);
+        if (optimizer == null) {
+            return null;
+        }
+        for (Map.Entry<Integer, byte[]> image : optimizer.embeddedImages().entrySet()) {
+            String hash = hash(image.getValue());
+            if (imageUsers.get(hash).size() < 2) {
+                continue;
+            }
+            String sharedPath = getSharedDirectory().get() + "/" + hash + extension(optimizer.imageMimeType(image.getKey()));
+            if (sharedImages.putIfAbsent(sharedPath, (long) image.getValue().length) == null) {
+                write(output.resolve(sharedPath), image.getValue());
+            }
+            optimizer.externalizeImage(image.getKey(), relativeUri(path, sharedPath));
+        }
+        optimizer.pruneNodes();
+        if (lodResolution > 0) {
+            optimizer.simplify(lodResolution);
+        }
+        optimizer.quantize();
+        byte[] data = optimizer.pack().write(objectMapper);
+        return new Result(data, optimizer.triangleCount(), optimizer.stats().toString());
+    }
+
+    private static Map<String, File> relativeFiles(FileTree tree) {
+        Map<String, File> files = new TreeMap<>();
+        tree.visit(element -> {
+            if (!element.isDirectory()) {
+                files.put(element.getRelativePath().getPathString(), element.getFile());
+            }
+        });
+        return files;
+    }
+
+    private GltfOptimizer open(File file, ObjectMapper objectMapper) throws IOException {
+        try {
+            return new GltfOptimizer(Glb.read(Files.readAllBytes(file.toPath()), objectMapper));
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    private static String skipReason(byte[] data, ObjectMapper objectMapper) {
+        try {
+            new GltfOptimizer(Glb.read(data, objectMapper));
+            return "unknown";
+        } catch (IllegalArgumentException | IOException e) {
+            return e.getMessage();
+        }
+    }
+
+    /**
+     * GLB 위치 기준 상대 uri (예: models/roads/DD.glb -> ../shared/x.png)
+     */
+    static String relativeUri(String from, String to) {
+        Path parent = Path.of(from).getParent();
+        Path target = Path.of(to);
+        return (parent != null ? parent.relativize(target) : target).toString().replace(File.separatorChar, '/');
+    }
+
+    private static String extension(String mimeType) {
+        if (mimeType == null) {
+            return ".bin";
+        }
+        return switch (mimeType) {
+            case "image/png" -> ".png";
+            case "image/jpeg" -> ".jpg";
+            case "image/webp" -> ".webp";
+            case "image/ktx2" -> ".ktx2";
+            default -> ".bin";
+        };
+    }
+
+    private static String hash(byte[] data) {
+        try {
+            return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(data)).substring(0, 12);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static int percent(long value, long total) {
+        return total == 0 ? 100 : (int) Math.round(value * 100.0 / total);
+    }
+
+    private static void write(Path file, byte[] data) throws IOException {
+        Files.createDirectories(file.getParent());
+        Files.write(file, data);
+    }
+}
@@ -0,0 +1,232 @@
+package com.example.portfolio.build;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.gradle.api.DefaultTask;
+import org.gradle.api.file.DirectoryProperty;
+import org.gradle.api.file.FileSystemOperations;
+import org.gradle.api.file.FileTree;
+import org.gradle.api.file.RegularFileProperty;
+import org.gradle.api.provider.ListProperty;
+import org.gradle.api.tasks.IgnoreEmptyDirectories;
+import org.gradle.api.tasks.Input;
+import org.gradle.api.tasks.InputFiles;
+import org.gradle.api.tasks.OutputDirectory;
+import org.gradle.api.tasks.OutputFile;
+import org.gradle.api.tasks.PathSensitive;
+import org.gradle.api.tasks.PathSensitivity;
+import org.gradle.api.tasks.TaskAction;
+
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.ImageOutputStream;
+import javax.inject.Inject;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * 텍스처 해상도 변형 - 원본보다 작은 각 너비로 줄인 PNG를 같은 디렉터리에 {이름}@{너비}.png로 만든다.
+ *
+ * 정수 배 축소는 2x2 평균을 반복하고(스카이박스 면처럼 2의 거듭제곱 크기), 나머지는 bicubic으로 맞춘다.
+ * 알파가 모두 불투명이면 RGB로 저장한다. 색인(indexFile)은 원본 경로 -> 원본 너비와 변형 경로 목록이며
+ * 서버(TextureVariants)가 client hints / 쿼리 파라미터로 변형을 고를 때 쓴다.
+ */
+public abstract class TextureVariantsTask extends DefaultTask {
+
+    private FileTree textures;
+
+    @InputFiles
+    @PathSensitive(PathSensitivity.RELATIVE)
+    @IgnoreEmptyDirectories
+    public FileTree getTextures() {
+        return textures;
+    }
+
+    /**
+     * static/ 기준 파일 트리 (상대 경로 옆에 변형이 생김)
+     */
+    public void setTextures(FileTree textures) {
+        this.textures = textures;
+    }
+
+    /**
+     * 만들 너비 (원본 이상인 너비는 건너뜀)
+     */
+    @Input
+    public abstract ListProperty<Integer> getWidths();
+
+    @OutputDirectory
+    public abstract DirectoryProperty getOutputDirectory();
+
+    /**
+     * 원본 경로 -> 변형 목록 (classpath:texture-variants.json)
+     */
+    @OutputFile
+    public abstract RegularFileProperty getIndexFile();
+
+    @Inject
+    protected abstract FileSystemOperations getFileSystemOperations();
+
+    @TaskAction
+    public void generate() throws IOException {
+        Path output = getOutputDirectory().get().getAsFile().toPath();
+        getFileSystemOperations().delete(spec -> spec.delete(output.toFile()));
+        Files.createDirectories(output);
+
+        Map<String, File> files = new TreeMap<>();
+        textures.visit(element -> {
+            if (!element.isDirectory()) {
+                files.put(element.getRelativePath().getPathString(), element.getFile());
+            }
+        });
+
+        Map<String, Object> index = new TreeMap<>();
+        long before = 0;
+        long smallest = 0;
+        int written = 0;
+        for (Map.Entry<String, File> entry : files.entrySet()) {
+            String path = entry.getKey();
+            BufferedImage original = ImageIO.read(entry.getValue());
+            if (original == null) {
+                getLogger().warn("textureVariants: 읽을 수 없는 이미지 - {}", path);
+                continue;
+            }
+            before += entry.getValue().length();
+            long smallestSize = entry.getValue().length();
+
+            Map<String, String> variants = new TreeMap<>();
+            BufferedImage image = normalize(original, !opaque(original));
+            for (int width : getWidths().get().stream().sorted((a, b) -> b - a).toList()) {
+                if (width >= original.getWidth()) {
+                    continue;
+                }
+                image = resize(image, width, Math.max(1, Math.round((float) original.getHeight() * width / original.getWidth())));
+                String variantPath = variantPath(path, width);
+                byte[] data = png(image);
+                Path target = output.resolve(variantPath);
+                Files.createDirectories(target.getParent());
+                Files.write(target, data);
+                variants.put(String.valueOf(width), variantPath);
+                smallestSize = Math.min(smallestSize, data.length);
+                written++;
+            }
+            if (!variants.isEmpty()) {
+                Map<String, Object> texture = new LinkedHashMap<>();
+                texture.put("width", original.getWidth());
+                texture.put("variants", variants);
+                index.put(path, texture);
+            }
+            smallest += smallestSize;
+        }
+
+        File indexFile = getIndexFile().get().getAsFile();
+        Files.createDirectories(indexFile.getParentFile().toPath());
+        new ObjectMapper().writerWithDefaultPrettyPrinter().writeValue(indexFile, index);
+        getLogger().lifecycle("textureVariants: {} variants for {} textures, smallest set {} KB of {} KB",
+                written, index.size(), smallest >> 10, before >> 10);
+    }
+
+    /**
+     * textures/sky/a_px.png -> textures/sky/a_px@1024.png
+     */
+    static String variantPath(String path, int width) {
+        int dot = path.lastIndexOf('.');
+        return path.substring(0, dot) + "@" + width + path.substring(dot);
+    }
+
+    // 큰 너비부터 차례로 줄이므로 image는 직전 변형 (2배 축소면 2x2 평균 한 번)
+    static BufferedImage resize(BufferedImage image, int width, int height) {
+        while (image.getWidth() >= width * 2 && image.getHeight() >= height * 2) {
+            image = halve(image);
+        }
+        if (image.getWidth() == width && image.getHeight() == height) {
+            return image;
+        }
+        BufferedImage resized = new BufferedImage(width, height, image.getType());
+        Graphics2D graphics = resized.createGraphics();
+        graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BICUBIC);
+        graphics.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+        graphics.drawImage(image, 0, 0, width, height, null);
+        graphics.dispose();
+        return resized;
+    }
+
+    private static BufferedImage halve(BufferedImage image) {
+        int width = image.getWidth() / 2;
+        int height = image.getHeight() / 2;
+        boolean alpha = image.getType() == BufferedImage.TYPE_INT_ARGB;
+        BufferedImage halved = new BufferedImage(width, height, alpha ? BufferedImage.TYPE_INT_ARGB : BufferedImage.TYPE_INT_RGB);
+        int[] top = new int[width * 2];
+        int[] bottom = new int[width * 2];
+        int[] row = new int[width];
+        for (int y = 0; y < height; y++) {
+            image.getRGB(0, y * 2, width * 2, 1, top, 0, width * 2);
+            image.getRGB(0, y * 2 + 1, width * 2, 1, bottom, 0, width * 2);
+            for (int x = 0; x < width; x++) {
+                int a = top[x * 2];
+                int b = top[x * 2 + 1];
+                int c = bottom[x * 2];
+                int d = bottom[x * 2 + 1];
+                int pixel = 0;
+                for (int shift = 0; shift < 32; shift += 8) {
+                    int sum = (a >>> shift & 0xFF) + (b >>> shift & 0xFF) + (c >>> shift & 0xFF) + (d >>> shift & 0xFF);
+                    pixel |= ((sum + 2) >> 2) << shift;
+                }
+                row[x] = alpha ? pixel : pixel | 0xFF000000;
+            }
+            halved.setRGB(0, y, width, 1, row, 0, width);
+        }
+        return halved;
+    }
+
+    private static boolean opaque(BufferedImage image) {
+        if (!image.getColorModel().hasAlpha()) {
+            return true;
+        }
+        int[] row = new int[image.getWidth()];
+        for (int y = 0; y < image.getHeight(); y++) {
+            image.getRGB(0, y, row.length, 1, row, 0, row.length);
+            for (int pixel : row) {
+                if (pixel >>> 24 != 0xFF) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
+    // 원본 형식과 관계없이 INT_RGB / INT_ARGB로 맞춤 (halve()와 bicubic 축소가 같은 형식을 유지)
+    private static BufferedImage normalize(BufferedImage image, boolean alpha) {
+        BufferedImage normalized = new BufferedImage(image.getWidth(), image.getHeight(),
+                alpha ? BufferedImage.TYPE_INT_ARGB : BufferedImage.TYPE_INT_RGB);
+        Graphics2D graphics = normalized.createGraphics();
+        graphics.drawImage(image, 0, 0, null);
+        graphics.dispose();
+        return normalized;
+    }
+
+    private static byte[] png(BufferedImage image) throws IOException {
+        ImageWriter writer = ImageIO.getImageWritersByFormatName("png").next();
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (ImageOutputStream stream = ImageIO.createImageOutputStream(out)) {
+            writer.setOutput(stream);
+            ImageWriteParam param = writer.getDefaultWriteParam();
+            param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+            param.setCompressionQuality(0f);  // 최대 압축 (deflate 9)
+            writer.write(null, new IIOImage(image, null, null), param);
+        } finally {
+            writer.dispose();
+        }
+        return out.toByteArray();
+    }
+}
@@ -0,0 +1,176 @@
+package com.example.portfolio.build;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+class GltfOptimizerTest {
+
+    private static final float[] POSITIONS = {-2, 0, 0, 2, 0, 0, 0, 4, 1};
+    private static final float[] NORMALS = {0, 0, 1, 0, 0, 1, 0, 0, 1};
+    private static final float[] TEXCOORDS = {0, 0, 1, 0, 0.5f, 1};
+    private static final int[] INDICES = {0, 1, 2};
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    void quantizesAttributesAndKeepsNodePivot() throws Exception {
+        GltfOptimizer optimizer = new GltfOptimizer(Glb.read(sample().write(objectMapper), objectMapper));
+        optimizer.pruneNodes();
+        optimizer.quantize();
+        Glb glb = optimizer.pack();
+        JsonNode json = glb.json();
+
+        assertThat(json.path("extensionsRequired").toString()).contains(GltfOptimizer.MESH_QUANTIZATION);
+        JsonNode node = json.path("nodes").path(0);
+        assertThat(node.path("translation").toString()).isEqualTo("[1,2,3]");
+        assertThat(node.path("scale").get(0).asDouble()).isEqualTo(4.0);
+
+        JsonNode attributes = json.path("meshes").path(0).path("primitives").path(0).path("attributes");
+        JsonNode position = json.path("accessors").path(attributes.path("POSITION").asInt());
+        assertThat(position.path("componentType").asInt()).isEqualTo(5122);
+        assertThat(position.path("normalized").asBoolean()).isTrue();
+        assertThat(position.path("max").toString()).isEqualTo("[16384,32767,8192]");
+        assertThat(json.path("accessors").path(attributes.path("NORMAL").asInt()).path("componentType").asInt()).isEqualTo(5120);
+        assertThat(json.path("accessors").path(attributes.path("TEXCOORD_0").asInt()).path("componentType").asInt()).isEqualTo(5123);
+
+        // 역양자화 * 노드 배율 = 원래 위치
+        ByteBuffer bin = ByteBuffer.wrap(glb.bin()).order(ByteOrder.LITTLE_ENDIAN);
+        int offset = json.path("bufferViews").path(position.path("bufferView").asInt()).path("byteOffset").asInt();
+        for (int i = 0; i < 3; i++) {
+            for (int axis = 0; axis < 3; axis++) {
+                double decoded = bin.getShort(offset + i * 8 + axis * 2) / 32767.0 * 4.0;
+                assertThat(decoded).isCloseTo(POSITIONS[i * 3 + axis], within(1e-3));
+            }
+        }
+    }
+
+    @Test
+    void removesUnreachableNodesAndUnusedData() throws Exception {
+        GltfOptimizer optimizer = new GltfOptimizer(Glb.read(sample().write(objectMapper), objectMapper));
+        optimizer.pruneNodes();
+        optimizer.quantize();
+        JsonNode json = optimizer.pack().json();
+
+        assertThat(json.path("nodes").size()).isEqualTo(2);  // 도달 불가 노드 제거, 이름 있는 빈 노드 유지
+        assertThat(json.path("nodes").path(1).path("name").asText()).isEqualTo("light");
+        assertThat(json.path("meshes").size()).isEqualTo(1);
+        assertThat(json.path("accessors").size()).isEqualTo(4);  // 원본 float/uint32 접근자 정리
+        assertThat(json.path("buffers").path(0).path("byteLength").asInt()).isEqualTo(3 * 8 + 3 * 4 + 3 * 4 + 3 * 2);
+        JsonNode indices = json.path("accessors").path(json.path("meshes").path(0).path("primitives").path(0).path("indices").asInt());
+        assertThat(indices.path("componentType").asInt()).isEqualTo(5123);
+    }
+
+    @Test
+    void simplifiesMeshAndKeepsBounds() throws Exception {
+        GltfOptimizer optimizer = new GltfOptimizer(Glb.read(grid(16).write(objectMapper), objectMapper));
+        assertThat(optimizer.triangleCount()).isEqualTo(16 * 16 * 2);
+        optimizer.simplify(4);
+        optimizer.quantize();
+        JsonNode json = optimizer.pack().json();
+
+        assertThat(optimizer.triangleCount()).isBetween(1, 16 * 16 * 2 / 4);
+        // 단순화 후에도 외곽(경계 상자)은 그대로 - 양자화 배율 * 정규화 max = 원래 범위
+        JsonNode position = json.path("accessors").path(
+                json.path("meshes").path(0).path("primitives").path(0).path("attributes").path("POSITION").asInt());
+        double scale = json.path("nodes").path(0).path("scale").get(0).asDouble();
+        assertThat(position.path("max").get(0).asInt() / 32767.0 * scale).isCloseTo(8.0, within(1e-3));
+        assertThat(position.path("min").get(1).asInt() / 32767.0 * scale).isCloseTo(-8.0, within(1e-3));
+    }
+
+    /**
+     * 삼각형 메시 하나 + 같은 데이터를 가리키는 미사용 메시 + 도달 불가 노드 + 이름 있는 빈 노드
+     */
+    private Glb sample() throws Exception {
+        ByteBuffer bin = ByteBuffer.allocate(36 + 36 + 24 + 12).order(ByteOrder.LITTLE_ENDIAN);
+        for (float value : POSITIONS) {
+            bin.putFloat(value);
+        }
+        for (float value : NORMALS) {
+            bin.putFloat(value);
+        }
+        for (float value : TEXCOORDS) {
+            bin.putFloat(value);
+        }
+        for (int index : INDICES) {
+            bin.putInt(index);
+        }
+        ObjectNode json = (ObjectNode) objectMapper.readTree("""
+                {
+                  "asset": {"version": "2.0"},
+                  "scene": 0,
+                  "scenes": [{"nodes": [0]}],
+                  "nodes": [
+                    {"mesh": 0, "translation": [1, 2, 3], "rotation": [0, 0.7071068, 0, 0.7071068], "children": [1]},
+                    {"name": "light", "translation": [0, 8, 0]},
+                    {"mesh": 1}
+                  ],
+                  "meshes": [
+                    {"primitives": [{"attributes": {"POSITION": 0, "NORMAL": 1, "TEXCOORD_0": 2}, "indices": 3}]},
+                    {"primitives": [{"attributes": {"POSITION": 0}}]}
+                  ],
+                  "accessors": [
+                    {"bufferView": 0, "componentType": 5126, "count": 3, "type": "VEC3", "min": [-2, 0, 0], "max": [2, 4, 1]},
+                    {"bufferView": 1, "componentType": 5126, "count": 3, "type": "VEC3"},
+                    {"bufferView": 2, "componentType": 5126, "count": 3, "type": "VEC2"},
+                    {"bufferView": 3, "componentType": 5125, "count": 3, "type": "SCALAR"}
+                  ],
+                  "bufferViews": [
+                    {"buffer": 0, "byteOffset": 0, "byteLength": 36, "target": 34962},
+                    {"buffer": 0, "byteOffset": 36, "byteLength": 36, "target": 34962},
+                    {"buffer": 0, "byteOffset": 72, "byteLength": 24, "target": 34962},
+                    {"buffer": 0, "byteOffset": 96, "byteLength": 12, "target": 34963}
+                  ],
+                  "buffers": [{"byteLength": 108}]
+                }
+                """);
+        return new Glb(json, bin.array());
+    }
+
+    /**
+     * z=0 평면의 (n x n) 격자 메시 - 위치만, [-8, 8] 범위
+     */
+    private Glb grid(int n) throws Exception {
+        int vertices = (n + 1) * (n + 1);
+        int triangles = n * n * 2;
+        ByteBuffer bin = ByteBuffer.allocate(vertices * 12 + triangles * 12).order(ByteOrder.LITTLE_ENDIAN);
+        for (int y = 0; y <= n; y++) {
+            for (int x = 0; x <= n; x++) {
+                bin.putFloat(x * 16f / n - 8).putFloat(y * 16f / n - 8).putFloat(0);
+            }
+        }
+        for (int y = 0; y < n; y++) {
+            for (int x = 0; x < n; x++) {
+                int a = y * (n + 1) + x;
+                bin.putInt(a).putInt(a + 1).putInt(a + n + 1);
+                bin.putInt(a + 1).putInt(a + n + 2).putInt(a + n + 1);
+            }
+        }
+        ObjectNode json = (ObjectNode) objectMapper.readTree("""
+                {
+                  "asset": {"version": "2.0"},
+                  "scene": 0,
+                  "scenes": [{"nodes": [0]}],
+                  "nodes": [{"mesh": 0}],
+                  "meshes": [{"primitives": [{"attributes": {"POSITION": 0}, "indices": 1}]}],
+                  "accessors": [
+                    {"bufferView": 0, "componentType": 5126, "count": %d, "type": "VEC3", "min": [-8, -8, 0], "max": [8, 8, 0]},
+                    {"bufferView": 1, "componentType": 5125, "count": %d, "type": "SCALAR"}
+                  ],
+                  "bufferViews": [
+                    {"buffer": 0, "byteOffset": 0, "byteLength": %d, "target": 34962},
+                    {"buffer": 0, "byteOffset": %d, "byteLength": %d, "target": 34963}
+                  ],
+                  "buffers": [{"byteLength": %d}]
+                }
+                """.formatted(vertices, triangles * 3, vertices * 12, vertices * 12, triangles * 12, bin.capacity()));
+        return new Glb(json, bin.array());
+    }
+}
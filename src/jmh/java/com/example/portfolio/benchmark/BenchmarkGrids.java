@@ -0,0 +1,68 @@
+package com.example.portfolio.benchmark;
+
+import com.example.portfolio.domain.CellType;
+
+import java.util.Random;
+
+/**
+ * 벤치마크용 합성 그리드 (70x70, 하단 잠긴 경계 포함)
+ *
+ * 6칸 간격 도로망 사이 블록을 밀도에 따라 건물로 채운다. 시드가 고정되어 있어 실행마다 같은 그리드가 만들어진다.
+ */
+public final class BenchmarkGrids {
+
+    static final int GRID_SIZE = 70;
+
+    private static final CellType[] BUILDINGS = {
+        CellType.RESIDENTIAL_LOW, CellType.RESIDENTIAL_LOW, CellType.RESIDENTIAL_MID, CellType.RESIDENTIAL_HIGH,
+        CellType.COMMERCIAL, CellType.COMMERCIAL, CellType.INDUSTRIAL,
+        CellType.POLICE_STATION, CellType.FIRE_STATION, CellType.PARK, CellType.POWER_PLANT,
+        CellType.SCHOOL, CellType.HOSPITAL, CellType.ZONE_RESIDENTIAL, CellType.WATER
+    };
+
+    private BenchmarkGrids() {
+    }
+
+    /**
+     * @param density sparse / typical / dense
+     */
+    public static int[][] create(String density) {
+        double fill = switch (density) {
+            case "sparse" -> 0.05;
+            case "typical" -> 0.4;
+            case "dense" -> 0.9;
+            default -> throw new IllegalArgumentException("알 수 없는 밀도: " + density);
+        };
+        Random random = new Random(42);
+        int[][] grid = new int[GRID_SIZE][GRID_SIZE];
+        for (int x = 0; x < GRID_SIZE; x++) {
+            for (int y = 0; y < GRID_SIZE - 2; y++) {
+                if (x % 6 == 0 || y % 6 == 0) {
+                    grid[x][y] = fill > 0.1 || x % 12 == 0 || y % 12 == 0 ? CellType.ROAD.getCode() : 0;
+                } else if (random.nextDouble() < fill) {
+                    grid[x][y] = BUILDINGS[random.nextInt(BUILDINGS.length)].getCode();
+                }
+            }
+            grid[x][GRID_SIZE - 2] = CellType.LOCKED_ROAD_4LANE.getCode();
+            grid[x][GRID_SIZE - 1] = CellType.LOCKED_ROAD_4LANE.getCode();
+        }
+        return grid;
+    }
+
+    /**
+     * 잠긴 경계를 제외한 칸 중 count개를 다른 건물로 바꾼 복사본 (저장 요청 시뮬레이션)
+     */
+    public static int[][] withChanges(int[][] grid, int count) {
+        Random random = new Random(7);
+        int[][] copy = new int[grid.length][];
+        for (int x = 0; x < grid.length; x++) {
+            copy[x] = grid[x].clone();
+        }
+        for (int i = 0; i < count; i++) {
+            int x = random.nextInt(GRID_SIZE);
+            int y = random.nextInt(GRID_SIZE - 2);
+            copy[x][y] = BUILDINGS[random.nextInt(BUILDINGS.length)].getCode();
+        }
+        return copy;
+    }
+}
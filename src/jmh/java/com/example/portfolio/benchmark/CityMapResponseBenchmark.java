@@ -0,0 +1,113 @@
+package com.example.portfolio.benchmark;
+
+import com.example.portfolio.config.CongestionProperties;
+import com.example.portfolio.domain.CellType;
+import com.example.portfolio.domain.CityMap;
+import com.example.portfolio.domain.CityMapPayload;
+import com.example.portfolio.domain.GridCodec;
+import com.example.portfolio.domain.Role;
+import com.example.portfolio.domain.User;
+import com.example.portfolio.dto.CityMapResponse;
+import com.example.portfolio.dto.CityStatsResponse;
+import com.example.portfolio.service.CityStatsService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 도시 조회 응답 조립 (건물/카메라/게임 상태 파싱 포함)과 JSON 직렬화
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class CityMapResponseBenchmark {
+
+    @Param({"sparse", "typical", "dense"})
+    public String density;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private CityMap cityMap;
+    private CityMapPayload payload;
+    private int[][] grid;
+    private CityStatsResponse stats;
+    private CityMapResponse response;
+
+    @Setup
+    public void setUp() throws IOException {
+        User user = User.builder()
+                .username("benchmark")
+                .password("-")
+                .email("benchmark@example.com")
+                .role(Role.USER)
+                .emailVerified(true)
+                .build();
+        cityMap = CityMap.createDefault(user, "Benchmark City", "benchmark-city");
+        grid = BenchmarkGrids.create(density);
+        payload = new CityMapPayload(1L, GridCodec.encode(grid));
+        payload.replaceAll(GridCodec.encode(grid), 0L, buildingsJson(grid),
+                objectMapper.writeValueAsString(Map.of(
+                        "position", Map.of("x", 35.5, "y", 60.0, "z", 80.25),
+                        "target", Map.of("x", 35.0, "y", 0.0, "z", 35.0),
+                        "azimuthAngle", 0.785, "polarAngle", 0.96)),
+                objectMapper.writeValueAsString(Map.of("gameTime", 720, "gameDay", 14)));
+        stats = new CityStatsService(null, null, new CongestionProperties()).calculateStats(grid, 50);
+        response = build();
+    }
+
+    @Benchmark
+    public CityMapResponse construct() {
+        return build();
+    }
+
+    @Benchmark
+    public byte[] serialize() throws IOException {
+        return objectMapper.writeValueAsBytes(response);
+    }
+
+    @Benchmark
+    public byte[] constructAndSerialize() throws IOException {
+        return objectMapper.writeValueAsBytes(build());
+    }
+
+    private CityMapResponse build() {
+        return new CityMapResponse(cityMap, payload, grid, true, stats,
+                stats.getCongestionMap(), stats.getTaxPerHour(), 0L, 0L);
+    }
+
+    /**
+     * city.html extractBuildingsData() 형식의 건물 데이터 (건물 칸마다 한 항목)
+     */
+    private String buildingsJson(int[][] grid) throws IOException {
+        List<Map<String, Object>> civil = new ArrayList<>();
+        List<Map<String, Object>> publicBuildings = new ArrayList<>();
+        for (int x = 0; x < grid.length; x++) {
+            for (int y = 0; y < grid[x].length; y++) {
+                CellType type = CellType.fromCode(grid[x][y]);
+                if (type.isResidential() || type == CellType.COMMERCIAL || type == CellType.INDUSTRIAL) {
+                    civil.add(Map.of("x", x, "y", y, "type", type.name(), "level", 1 + (x + y) % 3,
+                            "abandoned", (x * y) % 17 == 0, "rotY", 1.5707963267948966 * ((x + y) % 4)));
+                } else if (type.isPublicBuilding()) {
+                    publicBuildings.add(Map.of("x", x, "y", y, "type", type.name(), "rotY", 0.0));
+                }
+            }
+        }
+        return objectMapper.writeValueAsString(Map.of(
+                "civilBuildings", civil,
+                "publicBuildings", publicBuildings,
+                "constructionSites", List.of(),
+                "road4LaneOrigins", List.of(),
+                "trees", List.of()));
+    }
+}
@@ -0,0 +1,46 @@
+package com.example.portfolio.benchmark;
+
+import com.example.portfolio.config.CongestionProperties;
+import com.example.portfolio.dto.CityStatsResponse;
+import com.example.portfolio.service.CityStatsService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 도시 통계 전체 계산 (캐시를 거치지 않는 경로)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class CityStatsBenchmark {
+
+    @Param({"sparse", "typical", "dense"})
+    public String density;
+
+    private CityStatsService statsService;
+    private int[][] grid;
+
+    @Setup
+    public void setUp() {
+        statsService = new CityStatsService(null, null, new CongestionProperties());
+        grid = BenchmarkGrids.create(density);
+    }
+
+    @Benchmark
+    public CityStatsResponse calculateStats() {
+        return statsService.calculateStats(grid, 50);
+    }
+
+    @Benchmark
+    public int calculateHourlyTaxRate() {
+        return statsService.calculateHourlyTaxRate(grid);
+    }
+}
@@ -0,0 +1,59 @@
+package com.example.portfolio.benchmark;
+
+import com.example.portfolio.domain.GridCodec;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 그리드 직렬화 - 요청/응답의 Jackson int[][] 와 DB 저장용 GridCodec
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class GridJsonBenchmark {
+
+    @Param({"sparse", "typical", "dense"})
+    public String density;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private int[][] grid;
+    private byte[] json;
+    private String packed;
+
+    @Setup
+    public void setUp() throws IOException {
+        grid = BenchmarkGrids.create(density);
+        json = objectMapper.writeValueAsBytes(grid);
+        packed = GridCodec.encode(grid);
+    }
+
+    @Benchmark
+    public int[][] parseJson() throws IOException {
+        return objectMapper.readValue(json, int[][].class);
+    }
+
+    @Benchmark
+    public byte[] writeJson() throws IOException {
+        return objectMapper.writeValueAsBytes(grid);
+    }
+
+    @Benchmark
+    public int[][] decodePacked() {
+        return GridCodec.decode(packed);
+    }
+
+    @Benchmark
+    public String encodePacked() {
+        return GridCodec.encode(grid);
+    }
+}
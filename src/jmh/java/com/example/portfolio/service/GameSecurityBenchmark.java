@@ -0,0 +1,71 @@
+package com.example.portfolio.service;
+
+import com.example.portfolio.benchmark.BenchmarkGrids;
+import com.example.portfolio.config.CongestionProperties;
+import com.example.portfolio.domain.CityMap;
+import com.example.portfolio.domain.Role;
+import com.example.portfolio.domain.User;
+import com.example.portfolio.dto.CityMapUpdateRequest;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 전체 저장(PUT) 검증
+ *
+ * 현재 그리드는 CityGridCache에 미리 넣어 두므로 DB 없이 캐시 적중 경로를 측정한다.
+ * TEST_MODE 분기를 거치지 않도록 검사 본체(checkMapUpdate)를 직접 호출한다 (그래서 service 패키지에 둠).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class GameSecurityBenchmark {
+
+    @Param({"sparse", "typical", "dense"})
+    public String density;
+
+    private GameSecurityService securityService;
+    private CityMap cityMap;
+    private CityMapUpdateRequest request;
+
+    @Setup
+    public void setUp() {
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        CityGridCache gridCache = new CityGridCache(meterRegistry, 1_000_000, 30);
+        CityGridService gridService = new CityGridService(null, null, null, gridCache, null);
+        CityStatsService statsService = new CityStatsService(gridService,
+                new CityStatsCache(meterRegistry, 100, 60, 10), new CongestionProperties());
+        securityService = new GameSecurityService(statsService, gridService);
+
+        User user = User.builder()
+                .username("benchmark")
+                .password("-")
+                .email("benchmark@example.com")
+                .role(Role.USER)
+                .emailVerified(true)
+                .build();
+        cityMap = CityMap.createDefault(user, "Benchmark City", "benchmark-city");
+        cityMap.setId(1L);
+        cityMap.setMoney(1_000_000L);
+
+        int[][] grid = BenchmarkGrids.create(density);
+        gridCache.put(cityMap.getId(), cityMap.getGridVersion(), grid);
+
+        request = new CityMapUpdateRequest();
+        request.setGrid(BenchmarkGrids.withChanges(grid, 40));
+        request.setMoney(cityMap.getMoney() + 1_000L);
+    }
+
+    @Benchmark
+    public GameSecurityService.ValidationResult checkMapUpdate() {
+        return securityService.checkMapUpdate(cityMap, request);
+    }
+}
@@ -0,0 +1,46 @@
+package com.example.portfolio.config;
+
+/**
+ * Accept-Encoding 헤더 해석 - 정적 에셋(StaticAssetFilter)과 공개 도시 응답(CityMapApiController)이 함께 사용
+ *
+ * q 값을 따르므로 "gzip;q=0"은 거부로 본다. gzip이 명시되지 않으면 "*"의 q 값을 따른다.
+ */
+public final class AcceptEncoding {
+
+    private AcceptEncoding() {
+    }
+
+    public static boolean acceptsGzip(String acceptEncoding) {
+        if (acceptEncoding == null) {
+            return false;
+        }
+        double wildcard = -1;
+        for (String coding : acceptEncoding.split(",")) {
+            String[] parts = coding.split(";");
+            String name = parts[0].trim();
+            double q = quality(parts);
+            if (name.equalsIgnoreCase("gzip") || name.equalsIgnoreCase("x-gzip")) {
+                return q > 0;
+            }
+            if (name.equals("*")) {
+                wildcard = q;
+            }
+        }
+        return wildcard > 0;
+    }
+
+    // q 파라미터가 없거나 잘못되면 1
+    private static double quality(String[] parts) {
+        for (int i = 1; i < parts.length; i++) {
+            String param = parts[i].trim();
+            if (param.length() > 2 && (param.charAt(0) == 'q' || param.charAt(0) == 'Q') && param.charAt(1) == '=') {
+                try {
+                    return Double.parseDouble(param.substring(2).trim());
+                } catch (NumberFormatException e) {
+                    return 1;
+                }
+            }
+        }
+        return 1;
+    }
+}
@@ -0,0 +1,131 @@
+package com.example.portfolio.config;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.core.io.Resource;
+import org.springframework.stereotype.Component;
+import org.springframework.web.util.UriUtils;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 빌드 시 생성된 정적 에셋 매니페스트 (classpath:asset-manifest.json, build.gradle의 assetManifest 태스크)
+ *
+ * static/ 기준 논리 경로(models/Park/2x2/Group 1.glb) -> 내용 해시(12자리 hex).
+ * 버전 경로는 확장자 앞에 해시를 붙인 형태(models/Park/2x2/Group 1-0123456789ab.glb)로,
+ * 내용이 바뀌면 URL도 바뀌므로 /assets/** 에서 immutable 캐시로 응답할 수 있다.
+ */
+@Slf4j
+@Component
+public class AssetManifest {
+
+    static final String LOCATION = "asset-manifest.json";
+
+    private static final Pattern VERSIONED = Pattern.compile("^(.*)-([0-9a-f]{12})(\\.[^./]+)$");
+
+    private final Map<String, String> hashes;
+    private final Map<String, String> versionedPaths;
+    private final String fingerprint;
+
+    public AssetManifest(ObjectMapper objectMapper) {
+        this(load(objectMapper, new ClassPathResource(LOCATION)));
+    }
+
+    AssetManifest(Map<String, String> hashes) {
+        this.hashes = Map.copyOf(hashes);
+        Map<String, String> paths = new LinkedHashMap<>();
+        hashes.forEach((path, hash) -> {
+            String versioned = withHash(path, hash);
+            if (versioned != null) {
+                paths.put(path, versioned);
+            }
+        });
+        this.versionedPaths = Collections.unmodifiableMap(paths);
+        this.fingerprint = Integer.toHexString(hashes.hashCode());
+    }
+
+    /**
+     * 논리 경로의 내용 해시 (매니페스트에 없으면 null)
+     */
+    public String hash(String path) {
+        return hashes.get(path);
+    }
+
+    /**
+     * 논리 경로의 버전 경로 (매니페스트에 없으면 null)
+     */
+    public String versionedPath(String path) {
+        return versionedPaths.get(path);
+    }
+
+    /**
+     * 논리 경로의 요청 URL (인코딩됨) - 매니페스트에 있으면 /assets/ 해시 경로, 없으면 논리 경로 그대로.
+     * 템플릿에서는 ${@assetManifest.url('js/city.js')}
+     */
+    public String url(String path) {
+        String versionedPath = versionedPaths.get(path);
+        String url = versionedPath != null ? "/assets/" + versionedPath : "/" + path;
+        return UriUtils.encodePath(url, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * 버전 경로의 논리 경로 (형식이 다르거나 해시가 현재 내용과 다르면 null)
+     */
+    public String logicalPath(String versionedPath) {
+        Matcher matcher = VERSIONED.matcher(versionedPath);
+        if (!matcher.matches()) {
+            return null;
+        }
+        String path = matcher.group(1) + matcher.group(3);
+        return matcher.group(2).equals(hashes.get(path)) ? path : null;
+    }
+
+    /**
+     * 논리 경로 -> 버전 경로 전체 (클라이언트 로더용으로는 빌드 시 static/js/asset-paths.js에 같은 표를 씀)
+     */
+    public Map<String, String> versionedPaths() {
+        return versionedPaths;
+    }
+
+    public int size() {
+        return hashes.size();
+    }
+
+    /**
+     * 매니페스트 전체의 지문 (에셋이 하나라도 바뀌면 달라짐, 버전 경로를 담은 응답의 ETag에 사용)
+     */
+    public String fingerprint() {
+        return fingerprint;
+    }
+
+    private static String withHash(String path, String hash) {
+        int dot = path.lastIndexOf('.');
+        if (dot <= path.lastIndexOf('/') + 1) {
+            return null;  // 확장자 없는 파일은 버전 경로를 만들지 않음 (매니페스트 태스크도 확장자로만 수집)
+        }
+        return path.substring(0, dot) + "-" + hash + path.substring(dot);
+    }
+
+    private static Map<String, String> load(ObjectMapper objectMapper, Resource resource) {
+        if (!resource.exists()) {
+            log.warn("{} 없음 - /assets/** 버전 경로를 사용하지 않음", LOCATION);
+            return Map.of();
+        }
+        try (InputStream input = resource.getInputStream()) {
+            Map<String, String> hashes = objectMapper.readValue(input, new TypeReference<Map<String, String>>() {});
+            log.info("에셋 매니페스트 로드: {}개", hashes.size());
+            return hashes;
+        } catch (IOException e) {
+            throw new IllegalStateException(LOCATION + " 읽기 실패", e);
+        }
+    }
+}
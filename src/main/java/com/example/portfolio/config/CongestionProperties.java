@@ -0,0 +1,59 @@
+package com.example.portfolio.config;
+
+import com.example.portfolio.domain.CellType;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * 도로 혼잡도 맵 설정 (city.congestion.*)
+ *
+ * 도로 칸의 혼잡도 = min(100, 기본 혼잡도 + 반경 내 칸들의 가중치 합)
+ * 기본값(반경 3, 주거/상업/공업 가중치 5)은 기존 계산과 같다.
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "city.congestion")
+public class CongestionProperties {
+
+    private int radius = 3;  // 주변 탐색 반경 (정사각형, 칸 단위)
+
+    private Map<CellType, Integer> weights = defaultWeights();  // 셀 타입별 혼잡도 가중치 (없으면 0)
+
+    private volatile int[] weightTable;
+
+    public void setWeights(Map<CellType, Integer> weights) {
+        this.weights = weights;
+        this.weightTable = null;
+    }
+
+    /**
+     * 셀 코드 기준 가중치 배열 (정의되지 않은 코드는 0)
+     */
+    public int[] weightTable() {
+        int[] table = weightTable;
+        if (table == null) {
+            table = new int[CellType.maxCode() + 1];
+            for (Map.Entry<CellType, Integer> entry : weights.entrySet()) {
+                table[entry.getKey().getCode()] = entry.getValue() != null ? entry.getValue() : 0;
+            }
+            weightTable = table;
+        }
+        return table;
+    }
+
+    private static Map<CellType, Integer> defaultWeights() {
+        Map<CellType, Integer> weights = new EnumMap<>(CellType.class);
+        weights.put(CellType.RESIDENTIAL_LOW, 5);
+        weights.put(CellType.RESIDENTIAL_MID, 5);
+        weights.put(CellType.RESIDENTIAL_HIGH, 5);
+        weights.put(CellType.COMMERCIAL, 5);
+        weights.put(CellType.INDUSTRIAL, 5);
+        return weights;
+    }
+}
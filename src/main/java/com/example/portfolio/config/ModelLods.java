@@ -0,0 +1,69 @@
+package com.example.portfolio.config;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.core.io.Resource;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * 빌드 시 생성된 모델 LOD 색인 (classpath:model-lods.json, build.gradle의 optimizeModels 태스크)
+ *
+ * static/ 기준 모델 경로 -> 단순화 단계 목록 (1단계부터 거칠어지는 순서).
+ * 모델이 화면 높이의 screenSize 비율보다 작게 보이면 그 단계로 그려도 된다.
+ */
+@Slf4j
+@Component
+public class ModelLods {
+
+    static final String LOCATION = "model-lods.json";
+
+    public record Level(int level, String path, int triangles, double screenSize) {
+    }
+
+    private record Model(int triangles, List<Level> lods) {
+    }
+
+    private final Map<String, List<Level>> levels;
+
+    public ModelLods(ObjectMapper objectMapper) {
+        this(load(objectMapper, new ClassPathResource(LOCATION)));
+    }
+
+    ModelLods(Map<String, List<Level>> levels) {
+        this.levels = Map.copyOf(levels);
+    }
+
+    /**
+     * 모델의 LOD 단계 (없으면 빈 목록)
+     */
+    public List<Level> levels(String path) {
+        return levels.getOrDefault(path, List.of());
+    }
+
+    public int size() {
+        return levels.size();
+    }
+
+    private static Map<String, List<Level>> load(ObjectMapper objectMapper, Resource resource) {
+        if (!resource.exists()) {
+            log.warn("{} 없음 - 모델 LOD를 사용하지 않음", LOCATION);
+            return Map.of();
+        }
+        try (InputStream input = resource.getInputStream()) {
+            Map<String, Model> models = objectMapper.readValue(input, new TypeReference<Map<String, Model>>() {});
+            log.info("모델 LOD 색인 로드: {}개 모델", models.size());
+            return models.entrySet().stream()
+                    .collect(Collectors.toMap(Map.Entry::getKey, entry -> List.copyOf(entry.getValue().lods())));
+        } catch (IOException e) {
+            throw new IllegalStateException(LOCATION + " 읽기 실패", e);
+        }
+    }
+}
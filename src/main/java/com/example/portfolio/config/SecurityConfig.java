@@ -5,6 +5,7 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
 import org.springframework.security.authentication.DisabledException;
 import org.springframework.security.config.Customizer;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
@@ -14,6 +15,7 @@ import org.springframework.security.core.session.SessionRegistryImpl;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
+import org.springframework.security.web.authentication.HttpStatusEntryPoint;
 import org.springframework.security.web.authentication.session.SessionAuthenticationException;
 import org.springframework.security.web.session.HttpSessionEventPublisher;
 
@@ -31,15 +33,19 @@ public class SecurityConfig {
                 )
                 .authorizeHttpRequests(auth -> auth
                         .requestMatchers("/","/viewer/**",
-                                "/models/**",
+                                "/models/**", "/assets/**", "/bundles/**",
                                 "/**/*.gltf", "/**/*.glb", "/**/*.bin",
                                 "/**/*.png", "/**/*.jpg", "/**/*.jpeg", "/**/*.webp","/resend-verification","/verify","/signup","/test-email","/css/**", "/js/**",
                                 "/api/session/**").permitAll()
                         // 도시 맵 API - GET은 공개, 나머지는 인증 필요
                         .requestMatchers(HttpMethod.GET, "/api/map/**").permitAll()
                         .requestMatchers(HttpMethod.PUT, "/api/map/**").authenticated()
+                        .requestMatchers(HttpMethod.PATCH, "/api/map/**").authenticated()
                         .requestMatchers(HttpMethod.POST, "/api/map/**").authenticated()
                         .requestMatchers(HttpMethod.DELETE, "/api/map/**").authenticated()
+                        // 액추에이터 - 아래 도시 페이지 매처(/{username}/...)에 걸리기 전에 먼저 검사 (health만 공개)
+                        .requestMatchers("/actuator/health", "/actuator/health/**").permitAll()
+                        .requestMatchers("/actuator/**").hasRole("ADMIN")
                         // 도시 페이지 - 누구나 볼 수 있음 (/{username} 또는 /{username}/{cityName} 형식)
                         .requestMatchers(request -> {
                             String path = request.getServletPath();
@@ -52,6 +58,12 @@ public class SecurityConfig {
                         .requestMatchers("/mypage").hasAnyRole("USER", "ADMIN")
                         .anyRequest().authenticated()
                 )
+                // 액추에이터는 로그인 페이지로 보내지 않고 401 응답
+                .exceptionHandling(exception -> exception
+                        .defaultAuthenticationEntryPointFor(
+                                new HttpStatusEntryPoint(HttpStatus.UNAUTHORIZED),
+                                request -> request.getServletPath().startsWith("/actuator/"))
+                )
                 .formLogin(form -> form
                         .loginPage("/login")
                         .failureHandler((request, response, exception) -> {
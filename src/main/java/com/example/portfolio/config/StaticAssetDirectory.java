@@ -0,0 +1,115 @@
+package com.example.portfolio.config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.support.PathMatchingResourcePatternResolver;
+import org.springframework.stereotype.Component;
+import org.springframework.web.util.UriUtils;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.FileTime;
+
+/**
+ * 정적 에셋(classpath:static/)의 파일 시스템 위치
+ *
+ * 클래스 디렉터리에서 실행 중이면(bootRun, IDE, 테스트) 그 디렉터리를 그대로 쓰고,
+ * jar로 실행 중이면 시작 시 static-assets.directory(기본: 임시 디렉터리)로 풀어 둔다.
+ * 이미 같은 크기/수정 시각의 파일이 있으면 다시 쓰지 않으므로 재시작 시에는 변경된 파일만 복사된다.
+ * StaticAssetFilter는 여기서 FileChannel/sendfile로 바로 응답한다 (jar 압축 해제 없음).
+ */
+@Slf4j
+@Component
+public class StaticAssetDirectory {
+
+    private static final String LOCATION = "static/";
+
+    private final Path root;
+    private final boolean extracted;
+
+    public StaticAssetDirectory(@Value("${static-assets.directory:}") String directory) throws IOException {
+        ClassPathResource location = new ClassPathResource(LOCATION);
+        if (!location.exists()) {
+            throw new IllegalStateException("classpath:" + LOCATION + " 없음");
+        }
+        if (location.isFile()) {
+            this.root = location.getFile().toPath().toRealPath();
+            this.extracted = false;
+            log.info("정적 에셋 디렉터리: {}", root);
+        } else {
+            Path target = directory.isBlank()
+                    ? Path.of(System.getProperty("java.io.tmpdir"), "portfolio-static")
+                    : Path.of(directory);
+            this.root = extract(location, target).toRealPath();
+            this.extracted = true;
+        }
+    }
+
+    public Path getRoot() {
+        return root;
+    }
+
+    /**
+     * jar에서 풀어 둔 디렉터리이면 true - 실행 중 파일이 바뀌지 않음.
+     * false(클래스 디렉터리)면 processResources나 리소스 수정으로 실행 중에도 파일이 바뀔 수 있다.
+     */
+    public boolean isExtracted() {
+        return extracted;
+    }
+
+    /**
+     * static/ 기준 경로의 파일 크기 (없으면 -1)
+     */
+    public long size(String path) {
+        Path file = root.resolve(path).normalize();
+        try {
+            return file.startsWith(root) && Files.isRegularFile(file) ? Files.size(file) : -1;
+        } catch (IOException e) {
+            return -1;
+        }
+    }
+
+    private static Path extract(Resource location, Path target) throws IOException {
+        long started = System.nanoTime();
+        Files.createDirectories(target);
+        String rootUrl = location.getURL().toString();
+        Resource[] resources = new PathMatchingResourcePatternResolver().getResources("classpath:" + LOCATION + "**");
+        int copied = 0;
+        int unchanged = 0;
+        for (Resource resource : resources) {
+            String url = resource.getURL().toString();
+            if (!url.startsWith(rootUrl) || url.endsWith("/") || !resource.isReadable()) {
+                continue;  // 디렉터리
+            }
+            Path file = target.resolve(UriUtils.decode(url.substring(rootUrl.length()), StandardCharsets.UTF_8)).normalize();
+            if (!file.startsWith(target)) {
+                continue;
+            }
+            long lastModified = resource.lastModified();
+            if (Files.isRegularFile(file) && Files.size(file) == resource.contentLength()
+                    && Files.getLastModifiedTime(file).toMillis() == lastModified) {
+                unchanged++;
+                continue;
+            }
+            Files.createDirectories(file.getParent());
+            Path temp = Files.createTempFile(file.getParent(), ".extract-", ".tmp");
+            try (InputStream input = resource.getInputStream()) {
+                Files.copy(input, temp, StandardCopyOption.REPLACE_EXISTING);
+                Files.setLastModifiedTime(temp, FileTime.fromMillis(lastModified));
+                Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            } finally {
+                Files.deleteIfExists(temp);
+            }
+            copied++;
+        }
+        log.info("정적 에셋 추출: {} (복사 {}개, 유지 {}개, {}ms)",
+                target, copied, unchanged, (System.nanoTime() - started) / 1_000_000);
+        return target;
+    }
+}
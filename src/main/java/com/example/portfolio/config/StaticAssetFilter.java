@@ -0,0 +1,381 @@
+package com.example.portfolio.config;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.MediaTypeFactory;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.UriUtils;
+
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 정적 에셋 전용 응답 경로 - Spring Security 필터 체인과 DispatcherServlet보다 먼저 실행되어 바로 응답
+ *
+ * /assets/**: 내용 해시 경로 (AssetManifest로 확인, 1년 immutable 캐시)
+ * /models/**, /textures/**, /js/**, /css/**, /bundles/**: 논리 경로 (1시간 캐시)
+ * 모델 번들(bundles/*.bundle)은 색인의 offset/length로 Range 요청하면 개별 모델만 받을 수 있다.
+ *
+ * StaticAssetDirectory의 파일을 Tomcat sendfile(지원 시) 또는 FileChannel.transferTo로 보낸다.
+ * 빌드 시 만든 .gz 형제 파일은 Accept-Encoding에 맞춰 고르고(Vary: Accept-Encoding),
+ * Range 요청(단일 구간)은 원본 기준 206으로 응답한다. 조건부 요청은 ETag / Last-Modified로 304 처리.
+ * 해상도 변형이 있는 텍스처(TextureVariants)는 ?w= 또는 client hints로 필요한 너비를 정해 같은 URL로 변형을 보낸다
+ * (Vary: 힌트 헤더들).
+ */
+class StaticAssetFilter extends OncePerRequestFilter {
+
+    static final String VERSIONED_PREFIX = "/assets/";
+    static final String[] LOGICAL_PREFIXES = {"/models/", "/textures/", "/js/", "/css/", "/bundles/"};
+
+    // Tomcat sendfile 요청 속성 (org.apache.catalina.Globals)
+    private static final String SENDFILE_SUPPORTED = "org.apache.tomcat.sendfile.support";
+    private static final String SENDFILE_FILENAME = "org.apache.tomcat.sendfile.filename";
+    private static final String SENDFILE_START = "org.apache.tomcat.sendfile.start";
+    private static final String SENDFILE_END = "org.apache.tomcat.sendfile.end";
+    private static final long SENDFILE_MIN_BYTES = 48 * 1024;  // Tomcat DefaultServlet 기본값과 같음
+
+    private static final String IMMUTABLE = "max-age=31536000, public, immutable";
+    private static final String SHORT_LIVED = "max-age=3600";
+
+    private static final long[] UNSATISFIABLE = new long[0];
+
+    // client hints (Chromium은 페이지 응답의 Accept-CH를 본 뒤부터 전송) - 앞의 것이 표준 이름, 뒤는 이전 이름
+    static final String[] CLIENT_HINTS = {"Sec-CH-Viewport-Width", "Viewport-Width", "Sec-CH-DPR", "DPR", "Save-Data"};
+    private static final double MAX_DPR = 2;               // 고밀도 화면도 2배까지만 (3배 화면에 4배 픽셀은 과함)
+    private static final int SAVE_DATA_MAX_WIDTH = 1024;   // Save-Data인데 너비 정보가 없을 때
+
+    private final Path root;
+    private final AssetManifest manifest;
+    private final TextureVariants textureVariants;
+    // 존재하는 파일의 크기/수정 시각/.gz 형제 - 파일이 바뀌지 않을 때(jar에서 추출)만 저장
+    private final Map<String, Asset> assets = new ConcurrentHashMap<>();
+    private final boolean cacheAssets;
+
+    /**
+     * @param cacheAssets 파일 정보를 처음 조회 후 계속 재사용할지 (StaticAssetDirectory.isExtracted()).
+     *                    클래스 디렉터리에서 실행 중이면 false - 매 요청 다시 읽어 수정된 파일에 이전 길이/ETag를 보내지 않음
+     */
+    StaticAssetFilter(Path root, AssetManifest manifest, TextureVariants textureVariants, boolean cacheAssets) {
+        this.root = root;
+        this.manifest = manifest;
+        this.textureVariants = textureVariants;
+        this.cacheAssets = cacheAssets;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        String method = request.getMethod();
+        boolean head = "HEAD".equals(method);
+        if (!head && !"GET".equals(method)) {
+            chain.doFilter(request, response);
+            return;
+        }
+
+        String path = UriUtils.decode(request.getRequestURI().substring(request.getContextPath().length()),
+                StandardCharsets.UTF_8);
+        boolean versioned = path.startsWith(VERSIONED_PREFIX);
+        String logicalPath = versioned
+                ? manifest.logicalPath(path.substring(VERSIONED_PREFIX.length()))
+                : path.substring(1);
+        boolean variants = logicalPath != null && textureVariants.has(logicalPath);
+        if (variants) {
+            logicalPath = textureVariants.select(logicalPath, requestedWidth(request));
+        }
+        Asset asset = logicalPath != null ? find(logicalPath) : null;
+        if (asset == null) {
+            response.sendError(HttpServletResponse.SC_NOT_FOUND);
+            return;
+        }
+
+        String range = request.getHeader(HttpHeaders.RANGE);
+        // Range는 원본 바이트 기준으로만 처리 (압축본 구간은 클라이언트가 이어 붙일 수 없음)
+        boolean gzip = asset.gzip() != null && range == null && AcceptEncoding.acceptsGzip(request.getHeader(HttpHeaders.ACCEPT_ENCODING));
+        Path file = gzip ? asset.gzip() : asset.file();
+        long length = gzip ? asset.gzipLength() : asset.length();
+        String etag = gzip ? asset.gzipEtag() : asset.etag();
+
+        response.setHeader(HttpHeaders.CACHE_CONTROL, versioned ? IMMUTABLE : SHORT_LIVED);
+        response.setHeader(HttpHeaders.ETAG, etag);
+        response.setDateHeader(HttpHeaders.LAST_MODIFIED, asset.lastModified());
+        response.setHeader(HttpHeaders.ACCEPT_RANGES, "bytes");
+        response.setHeader("X-Content-Type-Options", "nosniff");
+        if (asset.gzip() != null || variants) {
+            List<String> vary = new ArrayList<>();
+            if (asset.gzip() != null) {
+                vary.add(HttpHeaders.ACCEPT_ENCODING);
+            }
+            if (variants) {
+                vary.addAll(List.of(CLIENT_HINTS));
+            }
+            response.setHeader(HttpHeaders.VARY, String.join(", ", vary));
+        }
+
+        if (notModified(request, etag, asset.lastModified())) {
+            response.setStatus(HttpServletResponse.SC_NOT_MODIFIED);
+            return;
+        }
+
+        response.setContentType(asset.contentType());
+        if (gzip) {
+            response.setHeader(HttpHeaders.CONTENT_ENCODING, "gzip");
+        }
+
+        long start = 0;
+        long end = length - 1;
+        if (range != null && rangeApplies(request, etag, asset.lastModified())) {
+            long[] bounds = parseRange(range, length);
+            if (bounds == UNSATISFIABLE) {
+                response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes */" + length);
+                response.sendError(HttpServletResponse.SC_REQUESTED_RANGE_NOT_SATISFIABLE);
+                return;
+            }
+            if (bounds != null) {
+                start = bounds[0];
+                end = bounds[1];
+                response.setStatus(HttpServletResponse.SC_PARTIAL_CONTENT);
+                response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes " + start + "-" + end + "/" + length);
+            }
+        }
+
+        long count = end - start + 1;
+        response.setContentLengthLong(count);
+        if (head || count == 0) {
+            return;
+        }
+
+        if (count >= SENDFILE_MIN_BYTES && Boolean.TRUE.equals(request.getAttribute(SENDFILE_SUPPORTED))) {
+            // 필터가 끝난 뒤 Tomcat이 커널 sendfile로 전송 (사용자 공간 복사 없음)
+            request.setAttribute(SENDFILE_FILENAME, file.toString());
+            request.setAttribute(SENDFILE_START, start);
+            request.setAttribute(SENDFILE_END, end + 1);
+            return;
+        }
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            WritableByteChannel out = Channels.newChannel(response.getOutputStream());
+            long position = start;
+            while (position <= end) {
+                long written = channel.transferTo(position, end - position + 1, out);
+                if (written <= 0) {
+                    break;
+                }
+                position += written;
+            }
+        }
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        String path = request.getRequestURI().substring(request.getContextPath().length());
+        if (path.startsWith(VERSIONED_PREFIX)) {
+            return false;
+        }
+        for (String prefix : LOGICAL_PREFIXES) {
+            if (path.startsWith(prefix)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    protected boolean shouldNotFilterErrorDispatch() {
+        return true;
+    }
+
+    private Asset find(String logicalPath) throws IOException {
+        Asset asset = assets.get(logicalPath);
+        if (asset != null) {
+            return asset;
+        }
+        if (logicalPath.isEmpty() || logicalPath.indexOf('\0') >= 0 || logicalPath.indexOf('\\') >= 0) {
+            return null;
+        }
+        Path file = root.resolve(logicalPath).normalize();
+        if (!file.startsWith(root) || !Files.isRegularFile(file)) {
+            return null;
+        }
+        asset = Asset.of(file);
+        if (cacheAssets) {
+            assets.put(logicalPath, asset);
+        }
+        return asset;
+    }
+
+    /**
+     * 텍스처 변형을 고를 너비 (기기 픽셀) - ?w= 우선, 없으면 viewport 너비 * DPR(최대 2배), Save-Data면 절반.
+     * 너비 정보가 없으면 Integer.MAX_VALUE (원본)
+     */
+    static int requestedWidth(HttpServletRequest request) {
+        int width = positiveInt(request.getParameter("w"));
+        if (width <= 0) {
+            int viewport = positiveInt(header(request, CLIENT_HINTS[0], CLIENT_HINTS[1]));
+            if (viewport > 0) {
+                double dpr = 1;
+                try {
+                    String value = header(request, CLIENT_HINTS[2], CLIENT_HINTS[3]);
+                    dpr = value != null ? Double.parseDouble(value) : 1;
+                } catch (NumberFormatException ignored) {
+                }
+                width = (int) Math.ceil(viewport * Math.min(Math.max(dpr, 1), MAX_DPR));
+            }
+        }
+        if ("on".equalsIgnoreCase(request.getHeader(CLIENT_HINTS[4]))) {
+            return width > 0 ? Math.max(1, width / 2) : SAVE_DATA_MAX_WIDTH;
+        }
+        return width > 0 ? width : Integer.MAX_VALUE;
+    }
+
+    private static String header(HttpServletRequest request, String name, String legacyName) {
+        String value = request.getHeader(name);
+        return value != null ? value : request.getHeader(legacyName);
+    }
+
+    private static int positiveInt(String value) {
+        if (value == null) {
+            return -1;
+        }
+        try {
+            return Integer.parseInt(value.trim());
+        } catch (NumberFormatException e) {
+            return -1;
+        }
+    }
+
+    private static boolean notModified(HttpServletRequest request, String etag, long lastModified) {
+        String ifNoneMatch = request.getHeader(HttpHeaders.IF_NONE_MATCH);
+        if (ifNoneMatch != null) {
+            for (String tag : ifNoneMatch.split(",")) {
+                tag = tag.trim();
+                if (tag.startsWith("W/")) {
+                    tag = tag.substring(2);  // If-None-Match는 weak 비교
+                }
+                if (tag.equals("*") || tag.equals(etag)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+        long ifModifiedSince = dateHeader(request, HttpHeaders.IF_MODIFIED_SINCE);
+        return ifModifiedSince >= 0 && lastModified / 1000 <= ifModifiedSince / 1000;
+    }
+
+    // If-Range가 현재 표현과 다르면 Range를 무시하고 전체를 보냄
+    private static boolean rangeApplies(HttpServletRequest request, String etag, long lastModified) {
+        String ifRange = request.getHeader(HttpHeaders.IF_RANGE);
+        if (ifRange == null) {
+            return true;
+        }
+        if (ifRange.startsWith("\"")) {
+            return ifRange.equals(etag);
+        }
+        long date = dateHeader(request, HttpHeaders.IF_RANGE);
+        return date >= 0 && lastModified / 1000 == date / 1000;
+    }
+
+    private static long dateHeader(HttpServletRequest request, String name) {
+        try {
+            return request.getDateHeader(name);
+        } catch (IllegalArgumentException e) {
+            return -1;
+        }
+    }
+
+    /**
+     * 단일 구간 "bytes=a-b", "bytes=a-", "bytes=-n" 파싱 ([start, end], 여러 구간이거나 형식이 틀리면 null로 전체 응답)
+     */
+    static long[] parseRange(String range, long length) {
+        if (!range.startsWith("bytes=") || range.indexOf(',') >= 0) {
+            return null;
+        }
+        String spec = range.substring("bytes=".length()).trim();
+        int dash = spec.indexOf('-');
+        if (dash < 0) {
+            return null;
+        }
+        try {
+            String first = spec.substring(0, dash).trim();
+            String last = spec.substring(dash + 1).trim();
+            long start;
+            long end;
+            if (first.isEmpty()) {
+                if (last.isEmpty()) {
+                    return null;
+                }
+                long suffix = Long.parseLong(last);
+                if (suffix < 0) {
+                    return null;
+                }
+                if (suffix == 0) {
+                    return UNSATISFIABLE;
+                }
+                start = Math.max(0, length - suffix);
+                end = length - 1;
+            } else {
+                start = Long.parseLong(first);
+                end = length - 1;
+                if (!last.isEmpty()) {
+                    long requestedEnd = Long.parseLong(last);
+                    if (requestedEnd < start) {
+                        return null;
+                    }
+                    end = Math.min(requestedEnd, end);
+                }
+            }
+            if (start >= length) {
+                return UNSATISFIABLE;
+            }
+            return new long[]{start, end};
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    /**
+     * 파일 메타데이터 (gzip: 10% 이상 작아서 빌드 시 만들어진 .gz 형제 파일, 없으면 null)
+     */
+    private record Asset(Path file, long length, long lastModified, String etag, String contentType,
+                         Path gzip, long gzipLength, String gzipEtag) {
+
+        static Asset of(Path file) throws IOException {
+            BasicFileAttributes attributes = Files.readAttributes(file, BasicFileAttributes.class);
+            long length = attributes.size();
+            long lastModified = attributes.lastModifiedTime().toMillis();
+            String etag = "\"" + Long.toHexString(length) + "-" + Long.toHexString(lastModified) + "\"";
+            String contentType = contentType(file.getFileName().toString());
+
+            Path gzip = file.resolveSibling(file.getFileName() + ".gz");
+            if (!Files.isRegularFile(gzip)) {
+                return new Asset(file, length, lastModified, etag, contentType, null, 0, null);
+            }
+            String gzipEtag = etag.substring(0, etag.length() - 1) + "-gz\"";
+            return new Asset(file, length, lastModified, etag, contentType, gzip, Files.size(gzip), gzipEtag);
+        }
+
+        // glTF 타입은 MediaTypeFactory(mime.types)에 없음
+        private static String contentType(String filename) {
+            if (filename.endsWith(".glb")) {
+                return "model/gltf-binary";
+            }
+            if (filename.endsWith(".gltf")) {
+                return "model/gltf+json";
+            }
+            return MediaTypeFactory.getMediaType(filename).orElse(MediaType.APPLICATION_OCTET_STREAM).toString();
+        }
+    }
+}
@@ -0,0 +1,79 @@
+package com.example.portfolio.config;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.core.io.Resource;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+
+/**
+ * 빌드 시 생성된 텍스처 해상도 변형 색인 (classpath:texture-variants.json, build.gradle의 textureVariants 태스크)
+ *
+ * static/ 기준 원본 경로 -> 원본 너비와 너비별 변형 경로. 필요한 너비 이상인 가장 작은 변형을 고르고,
+ * 원본보다 커야 하면 원본을 쓴다.
+ */
+@Slf4j
+@Component
+public class TextureVariants {
+
+    static final String LOCATION = "texture-variants.json";
+
+    record Texture(int width, Map<Integer, String> variants) {
+    }
+
+    private final Map<String, NavigableMap<Integer, String>> textures;
+
+    public TextureVariants(ObjectMapper objectMapper) {
+        this(load(objectMapper, new ClassPathResource(LOCATION)));
+    }
+
+    TextureVariants(Map<String, Texture> textures) {
+        Map<String, NavigableMap<Integer, String>> widths = new TreeMap<>();
+        textures.forEach((path, texture) -> {
+            NavigableMap<Integer, String> variants = new TreeMap<>(texture.variants());
+            variants.put(texture.width(), path);
+            widths.put(path, variants);
+        });
+        this.textures = Map.copyOf(widths);
+    }
+
+    /**
+     * 변형이 있는 텍스처인지 (응답에 Vary를 붙일지)
+     */
+    public boolean has(String path) {
+        return textures.containsKey(path);
+    }
+
+    /**
+     * 너비 width 이상인 가장 작은 변형의 경로 (변형이 없거나 원본을 써야 하면 path 그대로)
+     */
+    public String select(String path, int width) {
+        NavigableMap<Integer, String> variants = textures.get(path);
+        if (variants == null) {
+            return path;
+        }
+        Map.Entry<Integer, String> variant = variants.ceilingEntry(width);
+        return variant != null ? variant.getValue() : path;
+    }
+
+    private static Map<String, Texture> load(ObjectMapper objectMapper, Resource resource) {
+        if (!resource.exists()) {
+            log.warn("{} 없음 - 텍스처를 원본 해상도로만 응답", LOCATION);
+            return Map.of();
+        }
+        try (InputStream input = resource.getInputStream()) {
+            Map<String, Texture> textures = objectMapper.readValue(input, new TypeReference<Map<String, Texture>>() {});
+            log.info("텍스처 변형 색인 로드: {}개", textures.size());
+            return textures;
+        } catch (IOException e) {
+            throw new IllegalStateException(LOCATION + " 읽기 실패", e);
+        }
+    }
+}
@@ -1,34 +1,48 @@
 package com.example.portfolio.config;
 
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.core.Ordered;
 import org.springframework.web.servlet.config.annotation.ResourceHandlerRegistry;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 
+import java.util.ArrayList;
+import java.util.List;
+
 @Configuration
+@RequiredArgsConstructor
 public class WebMvcConfig implements WebMvcConfigurer {
 
+    private final AssetManifest assetManifest;
+    private final StaticAssetDirectory staticAssetDirectory;
+    private final TextureVariants textureVariants;
+
     @Override
     public void addResourceHandlers(ResourceHandlerRegistry registry) {
         // 정적 리소스 핸들러를 높은 우선순위로 등록
-        registry.addResourceHandler("/js/**")
-                .addResourceLocations("classpath:/static/js/")
-                .setCachePeriod(3600);
-
-        registry.addResourceHandler("/css/**")
-                .addResourceLocations("classpath:/static/css/")
-                .setCachePeriod(3600);
-
-        registry.addResourceHandler("/models/**")
-                .addResourceLocations("classpath:/static/models/")
-                .setCachePeriod(3600);
-
-        registry.addResourceHandler("/textures/**")
-                .addResourceLocations("classpath:/static/textures/")
-                .setCachePeriod(3600);
-
+        // /js, /css, /models, /textures, /assets는 StaticAssetFilter가 DispatcherServlet 전에 응답
         registry.addResourceHandler("/images/**")
                 .addResourceLocations("classpath:/static/images/")
                 .setCachePeriod(3600);
     }
+
+    /**
+     * 정적 에셋 필터 - Spring Security 필터 체인(-100)보다 앞에서 응답하고 체인을 이어가지 않음
+     */
+    @Bean
+    public FilterRegistrationBean<StaticAssetFilter> staticAssetFilter() {
+        List<String> urlPatterns = new ArrayList<>();
+        urlPatterns.add(StaticAssetFilter.VERSIONED_PREFIX + "*");
+        for (String prefix : StaticAssetFilter.LOGICAL_PREFIXES) {
+            urlPatterns.add(prefix + "*");
+        }
+        FilterRegistrationBean<StaticAssetFilter> registration = new FilterRegistrationBean<>(
+                new StaticAssetFilter(staticAssetDirectory.getRoot(), assetManifest, textureVariants,
+                        staticAssetDirectory.isExtracted()));
+        registration.setUrlPatterns(urlPatterns);
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE + 10);
+        return registration;
+    }
 }
@@ -1,14 +1,21 @@
 package com.example.portfolio.controller;
 
+import com.example.portfolio.dto.CityMapResponse;
 import com.example.portfolio.service.CityMapService;
+import com.example.portfolio.service.PublicCityResponseCache;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Controller;
 import org.springframework.ui.Model;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 
+import java.nio.charset.StandardCharsets;
 import java.security.Principal;
 import java.util.Set;
 
@@ -18,19 +25,29 @@ import java.util.Set;
 public class CityController {
 
     private final CityMapService cityMapService;
+    private final PublicCityResponseCache publicResponseCache;
+    private final ObjectMapper objectMapper;
+
+    // 첫 화면 도시 상태를 페이지에 실어 보냄 (클라이언트의 첫 GET /api/map/... 생략)
+    @Value("${city.bootstrap.enabled:true}")
+    private boolean bootstrapEnabled;
 
     // 예약된 경로 목록 - 이 경로들은 /{username}으로 처리되면 안 됨
     private static final Set<String> RESERVED_PATHS = Set.of(
             "login", "signup", "mypage", "viewer", "admin",
-            "verify", "resend-verification", "api", "models",
+            "verify", "resend-verification", "api", "models", "assets", "textures", "bundles",
             "css", "js", "test-email", "logout", "error"
     );
 
+    // 스카이박스 등 텍스처 해상도 변형 선택용 (StaticAssetFilter) - 이 페이지 이후 같은 출처 요청에 힌트가 붙음
+    private static final String ACCEPT_CH = "Sec-CH-Viewport-Width, Sec-CH-DPR, Viewport-Width, DPR";
+
     @GetMapping("/{username}")
     public String viewCity(
             @PathVariable String username,
             Principal principal,
-            Model model) {
+            Model model,
+            HttpServletResponse response) {
 
         // 예약된 경로인지 확인
         if (RESERVED_PATHS.contains(username.toLowerCase())) {
@@ -38,18 +55,22 @@ public class CityController {
         }
 
         try {
-            // 사용자가 존재하는지 확인
-            if (!cityMapService.userExists(username)) {
+            String currentUsername = principal != null ? principal.getName() : null;
+            Bootstrap bootstrap = bootstrapEnabled ? loadBootstrap(username, null, currentUsername) : null;
+
+            // 사용자가 존재하는지 확인 (상태를 실었으면 이미 확인됨)
+            if (bootstrap == null && !cityMapService.userExists(username)) {
                 return "redirect:/?error=user_not_found";
             }
 
-            String currentUsername = principal != null ? principal.getName() : null;
             boolean isOwner = username.equals(currentUsername);
 
             model.addAttribute("mapUsername", username);
             model.addAttribute("isOwner", isOwner);
             model.addAttribute("currentUsername", currentUsername);
             model.addAttribute("cityName", null);  // 기본 도시
+            addBootstrap(model, bootstrap);
+            response.setHeader("Accept-CH", ACCEPT_CH);
 
             return "city";
         } catch (Exception e) {
@@ -64,7 +85,8 @@ public class CityController {
             @PathVariable String username,
             @PathVariable String cityName,
             Principal principal,
-            Model model) {
+            Model model,
+            HttpServletResponse response) {
 
         // 예약된 경로인지 확인
         if (RESERVED_PATHS.contains(username.toLowerCase())) {
@@ -77,18 +99,22 @@ public class CityController {
         }
 
         try {
-            // 사용자가 존재하는지 확인
-            if (!cityMapService.userExists(username)) {
+            String currentUsername = principal != null ? principal.getName() : null;
+            Bootstrap bootstrap = bootstrapEnabled ? loadBootstrap(username, cityName, currentUsername) : null;
+
+            // 사용자가 존재하는지 확인 (상태를 실었으면 이미 확인됨)
+            if (bootstrap == null && !cityMapService.userExists(username)) {
                 return "redirect:/?error=user_not_found";
             }
 
-            String currentUsername = principal != null ? principal.getName() : null;
             boolean isOwner = username.equals(currentUsername);
 
             model.addAttribute("mapUsername", username);
             model.addAttribute("isOwner", isOwner);
             model.addAttribute("currentUsername", currentUsername);
             model.addAttribute("cityName", cityName);
+            addBootstrap(model, bootstrap);
+            response.setHeader("Accept-CH", ACCEPT_CH);
 
             return "city";
         } catch (Exception e) {
@@ -97,6 +123,41 @@ public class CityController {
         }
     }
 
+    /**
+     * 페이지에 실을 도시 상태 - GET /api/map/{username}[/{cityName}] 응답과 같은 JSON과 그 ETag (버전 표시).
+     * 소유자는 조회 시점의 오프라인 수익/보상이 반영된 응답, 방문자는 API와 같은 직렬화 캐시를 그대로 사용.
+     * 사용자나 도시가 없으면 null
+     */
+    private Bootstrap loadBootstrap(String username, String cityName, String currentUsername) {
+        try {
+            if (username.equals(currentUsername)) {
+                CityMapResponse response = cityMapService.getMapByUsernameAndCityName(username, cityName, currentUsername);
+                return new Bootstrap(objectMapper.writeValueAsString(response), response.getEtag());
+            }
+            PublicCityResponseCache.Entry entry = publicResponseCache.get(username, cityName,
+                    () -> cityMapService.getMapByUsernameAndCityName(username, cityName, null));
+            return new Bootstrap(new String(entry.json(), StandardCharsets.UTF_8), entry.etag());
+        } catch (IllegalArgumentException e) {
+            return null;
+        } catch (JsonProcessingException e) {
+            log.warn("도시 상태 직렬화 실패 - 클라이언트가 API로 조회: {}", e.getMessage());
+            return null;
+        }
+    }
+
+    private static void addBootstrap(Model model, Bootstrap bootstrap) {
+        if (bootstrap == null) {
+            return;
+        }
+        // <script type="application/json"> 안에 그대로 넣으므로 </script> 등이 생기지 않게 '<'를 이스케이프
+        // (JSON에서 '<'는 문자열 안에만 나오므로 \u003c로 바꿔도 같은 값)
+        model.addAttribute("bootstrapState", bootstrap.json().replace("<", "\\u003c"));
+        model.addAttribute("bootstrapVersion", bootstrap.version());
+    }
+
+    private record Bootstrap(String json, String version) {
+    }
+
     @ExceptionHandler(Exception.class)
     public String handleException(Exception e) {
         log.error("Unhandled exception in CityController", e);
@@ -1,14 +1,27 @@
 package com.example.portfolio.controller;
 
+import com.example.portfolio.config.AcceptEncoding;
 import com.example.portfolio.domain.CityMap;
+import com.example.portfolio.dto.CityAssetManifestResponse;
+import com.example.portfolio.dto.CityCellPatchRequest;
+import com.example.portfolio.dto.CityCellPatchResponse;
 import com.example.portfolio.dto.CityMapResponse;
 import com.example.portfolio.dto.CityMapUpdateRequest;
+import com.example.portfolio.dto.CitySummaryResponse;
+import com.example.portfolio.service.CityMapPreconditionFailedException;
 import com.example.portfolio.service.CityMapService;
+import com.example.portfolio.service.PublicCityResponseCache;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.security.Principal;
 import java.util.List;
@@ -21,21 +34,42 @@ import java.util.Map;
 public class CityMapApiController {
 
     private final CityMapService cityMapService;
+    private final PublicCityResponseCache publicResponseCache;
 
     // 마스터 계정
     private static final String MASTER_ACCOUNT = "dacttc";
 
+    // 도시 응답은 브라우저가 저장해 두되 매번 ETag로 재검증 (조회자별 응답이므로 private)
+    private static final CacheControl MAP_CACHE_CONTROL = CacheControl.noCache().cachePrivate();
+
+    // 에셋 매니페스트는 조회자와 무관하므로 공유 캐시 허용 (도시가 바뀌면 ETag가 바뀜)
+    private static final CacheControl ASSET_MANIFEST_CACHE_CONTROL = CacheControl.noCache().cachePublic();
+
     /**
      * 사용자의 첫 번째 도시 조회 (기존 호환성)
      */
     @GetMapping("/{username}")
     public ResponseEntity<?> getMap(
             @PathVariable String username,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch,
+            WebRequest webRequest,
             Principal principal) {
         try {
             String currentUsername = principal != null ? principal.getName() : null;
+            if (!username.equals(currentUsername)) {
+                return publicMapResponse(username, null, webRequest);
+            }
+            if (ifNoneMatch != null) {
+                String etag = cityMapService.getMapETag(username, null, currentUsername);
+                if (etag != null && webRequest.checkNotModified(etag)) {
+                    return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                            .eTag(etag)
+                            .cacheControl(MAP_CACHE_CONTROL)
+                            .build();
+                }
+            }
             CityMapResponse response = cityMapService.getMapByUsername(username, currentUsername);
-            return ResponseEntity.ok(response);
+            return withETag(response);
         } catch (IllegalArgumentException e) {
             log.warn("맵 조회 실패: {}", e.getMessage());
             return ResponseEntity.notFound().build();
@@ -66,6 +100,21 @@ public class CityMapApiController {
         }
     }
 
+    /**
+     * 홈 화면용 도시 목록 + 최근 플레이 정보 (한 번의 요청)
+     */
+    @GetMapping("/{username}/overview")
+    public ResponseEntity<?> getCityOverview(
+            @PathVariable String username,
+            Principal principal) {
+        // 본인만 조회 가능
+        if (principal == null || !username.equals(principal.getName())) {
+            return ResponseEntity.status(401).body(Map.of("error", "로그인이 필요합니다"));
+        }
+
+        return ResponseEntity.ok(cityMapService.getCityOverview(username));
+    }
+
     /**
      * 사용자의 모든 도시 목록 조회 (cityName 패턴보다 먼저 선언)
      */
@@ -74,7 +123,7 @@ public class CityMapApiController {
             @PathVariable String username,
             Principal principal) {
         try {
-            List<CityMapResponse> cities = cityMapService.getCitiesByUsername(username);
+            List<CitySummaryResponse> cities = cityMapService.getCitiesByUsername(username);
             return ResponseEntity.ok(cities);
         } catch (IllegalArgumentException e) {
             log.warn("도시 목록 조회 실패: {}", e.getMessage());
@@ -82,6 +131,27 @@ public class CityMapApiController {
         }
     }
 
+    /**
+     * 첫 번째 도시의 에셋 매니페스트 (cityName 패턴보다 먼저 선언)
+     */
+    @GetMapping("/{username}/assets")
+    public ResponseEntity<?> getAssetManifest(
+            @PathVariable String username,
+            WebRequest webRequest) {
+        return assetManifestResponse(username, null, webRequest);
+    }
+
+    /**
+     * 도시 렌더링에 필요한 모델 목록 (URL, 크기, 해시 - 화면에서 차지하는 칸 수가 많은 순서)
+     */
+    @GetMapping("/{username}/{cityName}/assets")
+    public ResponseEntity<?> getAssetManifestByCityName(
+            @PathVariable String username,
+            @PathVariable String cityName,
+            WebRequest webRequest) {
+        return assetManifestResponse(username, cityName, webRequest);
+    }
+
     /**
      * 특정 도시 조회 (도시 이름으로)
      */
@@ -89,11 +159,25 @@ public class CityMapApiController {
     public ResponseEntity<?> getMapByCityName(
             @PathVariable String username,
             @PathVariable String cityName,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch,
+            WebRequest webRequest,
             Principal principal) {
         try {
             String currentUsername = principal != null ? principal.getName() : null;
+            if (!username.equals(currentUsername)) {
+                return publicMapResponse(username, cityName, webRequest);
+            }
+            if (ifNoneMatch != null) {
+                String etag = cityMapService.getMapETag(username, cityName, currentUsername);
+                if (etag != null && webRequest.checkNotModified(etag)) {
+                    return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                            .eTag(etag)
+                            .cacheControl(MAP_CACHE_CONTROL)
+                            .build();
+                }
+            }
             CityMapResponse response = cityMapService.getMapByUsernameAndCityName(username, cityName, currentUsername);
-            return ResponseEntity.ok(response);
+            return withETag(response);
         } catch (IllegalArgumentException e) {
             log.warn("맵 조회 실패: {}", e.getMessage());
             return ResponseEntity.notFound().build();
@@ -107,6 +191,7 @@ public class CityMapApiController {
     public ResponseEntity<?> updateMap(
             @PathVariable String username,
             @Valid @RequestBody CityMapUpdateRequest request,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
             Principal principal) {
 
         if (principal == null) {
@@ -116,8 +201,16 @@ public class CityMapApiController {
 
         try {
             CityMapResponse response = cityMapService.updateMap(
-                    username, null, request, principal.getName());
-            return ResponseEntity.ok(response);
+                    username, null, request, principal.getName(), ifMatch);
+            return withETag(response);
+        } catch (OptimisticLockingFailureException e) {
+            log.info("맵 저장 동시 수정 충돌: {}", e.getMessage());
+            return ResponseEntity.status(409)
+                    .body(Map.of("error", "맵이 다른 곳에서 변경되었습니다. 새로고침 후 다시 시도해주세요."));
+        } catch (CityMapPreconditionFailedException e) {
+            log.info("맵 저장 If-Match 불일치: {}", e.getMessage());
+            return ResponseEntity.status(412)
+                    .body(Map.of("error", "맵이 다른 곳에서 변경되었습니다. 새로고침 후 다시 시도해주세요."));
         } catch (SecurityException e) {
             log.warn("맵 저장 권한 없음: {}", e.getMessage());
             return ResponseEntity.status(403)
@@ -137,6 +230,7 @@ public class CityMapApiController {
             @PathVariable String username,
             @PathVariable String cityName,
             @Valid @RequestBody CityMapUpdateRequest request,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
             Principal principal) {
 
         if (principal == null) {
@@ -146,8 +240,16 @@ public class CityMapApiController {
 
         try {
             CityMapResponse response = cityMapService.updateMap(
-                    username, cityName, request, principal.getName());
-            return ResponseEntity.ok(response);
+                    username, cityName, request, principal.getName(), ifMatch);
+            return withETag(response);
+        } catch (OptimisticLockingFailureException e) {
+            log.info("맵 저장 동시 수정 충돌: {}", e.getMessage());
+            return ResponseEntity.status(409)
+                    .body(Map.of("error", "맵이 다른 곳에서 변경되었습니다. 새로고침 후 다시 시도해주세요."));
+        } catch (CityMapPreconditionFailedException e) {
+            log.info("맵 저장 If-Match 불일치: {}", e.getMessage());
+            return ResponseEntity.status(412)
+                    .body(Map.of("error", "맵이 다른 곳에서 변경되었습니다. 새로고침 후 다시 시도해주세요."));
         } catch (SecurityException e) {
             log.warn("맵 저장 권한 없음: {}", e.getMessage());
             return ResponseEntity.status(403)
@@ -159,6 +261,43 @@ public class CityMapApiController {
         }
     }
 
+    /**
+     * 특정 도시 셀 단위 저장 (변경된 셀만 전송)
+     */
+    @PatchMapping("/{username}/{cityName}/cells")
+    public ResponseEntity<?> patchCells(
+            @PathVariable String username,
+            @PathVariable String cityName,
+            @Valid @RequestBody CityCellPatchRequest request,
+            Principal principal) {
+
+        if (principal == null) {
+            return ResponseEntity.status(401)
+                    .body(Map.of("error", "로그인이 필요합니다"));
+        }
+
+        try {
+            CityCellPatchResponse response = cityMapService.patchCells(
+                    username, cityName, request, principal.getName());
+            if (response.getEtag() == null) {
+                return ResponseEntity.ok(response);
+            }
+            return ResponseEntity.ok().eTag(response.getEtag()).body(response);
+        } catch (OptimisticLockingFailureException e) {
+            log.info("셀 저장 버전 충돌: {}", e.getMessage());
+            return ResponseEntity.status(409)
+                    .body(Map.of("error", e.getMessage()));
+        } catch (SecurityException e) {
+            log.warn("셀 저장 거부: {}", e.getMessage());
+            return ResponseEntity.status(403)
+                    .body(Map.of("error", e.getMessage()));
+        } catch (IllegalArgumentException e) {
+            log.warn("셀 저장 검증 실패: {}", e.getMessage());
+            return ResponseEntity.badRequest()
+                    .body(Map.of("error", e.getMessage()));
+        }
+    }
+
     /**
      * 새 도시 생성 (템플릿 선택 가능)
      */
@@ -445,4 +584,70 @@ public class CityMapApiController {
                     .body(Map.of("error", e.getMessage()));
         }
     }
+
+    /**
+     * 도시 응답 - ETag가 있으면 헤더로 전달
+     */
+    private ResponseEntity<CityMapResponse> withETag(CityMapResponse response) {
+        if (response.getEtag() == null) {
+            return ResponseEntity.ok(response);
+        }
+        return ResponseEntity.ok()
+                .eTag(response.getEtag())
+                .cacheControl(MAP_CACHE_CONTROL)
+                .body(response);
+    }
+
+    private ResponseEntity<?> assetManifestResponse(String username, String cityName, WebRequest webRequest) {
+        try {
+            CityAssetManifestResponse manifest = cityMapService.getAssetManifest(username, cityName);
+            if (webRequest.checkNotModified(manifest.getEtag())) {
+                return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                        .eTag(manifest.getEtag())
+                        .cacheControl(ASSET_MANIFEST_CACHE_CONTROL)
+                        .build();
+            }
+            return ResponseEntity.ok()
+                    .eTag(manifest.getEtag())
+                    .cacheControl(ASSET_MANIFEST_CACHE_CONTROL)
+                    .body(manifest);
+        } catch (IllegalArgumentException e) {
+            log.warn("에셋 매니페스트 조회 실패: {}", e.getMessage());
+            return ResponseEntity.notFound().build();
+        }
+    }
+
+    /**
+     * 방문자 조회 - 직렬화된 응답 캐시에서 바로 전송 (gzip을 받는 클라이언트에는 압축된 바이트)
+     */
+    private ResponseEntity<?> publicMapResponse(String username, String cityName, WebRequest webRequest) {
+        PublicCityResponseCache.Entry entry = publicResponseCache.get(username, cityName,
+                () -> cityMapService.getMapByUsernameAndCityName(username, cityName, null));
+
+        // 압축 여부에 따라 바이트가 다르므로 gzip 표현은 별도 ETag 사용
+        boolean gzip = AcceptEncoding.acceptsGzip(webRequest.getHeader(HttpHeaders.ACCEPT_ENCODING));
+        String etag = entry.etag() != null && gzip
+                ? entry.etag().substring(0, entry.etag().length() - 1) + "-gz\""
+                : entry.etag();
+
+        if (etag != null && webRequest.checkNotModified(etag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                    .eTag(etag)
+                    .cacheControl(MAP_CACHE_CONTROL)
+                    .varyBy(HttpHeaders.ACCEPT_ENCODING)
+                    .build();
+        }
+
+        ResponseEntity.BodyBuilder builder = ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .cacheControl(MAP_CACHE_CONTROL)
+                .varyBy(HttpHeaders.ACCEPT_ENCODING);
+        if (etag != null) {
+            builder.eTag(etag);
+        }
+        if (gzip) {
+            return builder.header(HttpHeaders.CONTENT_ENCODING, "gzip").body(entry.gzip());
+        }
+        return builder.body(entry.json());
+    }
 }
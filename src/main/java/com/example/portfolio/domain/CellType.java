@@ -3,6 +3,8 @@ package com.example.portfolio.domain;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 
+import java.util.Arrays;
+
 @Getter
 @RequiredArgsConstructor
 public enum CellType {
@@ -54,13 +56,29 @@ public enum CellType {
     private final int taxPerHour;
     private final int trafficImpact;
 
+    // 코드 -> 타입 조회 테이블 (없는 코드는 EMPTY)
+    private static final CellType[] BY_CODE = buildCodeTable();
+
     public static CellType fromCode(int code) {
+        return code >= 0 && code < BY_CODE.length ? BY_CODE[code] : EMPTY;
+    }
+
+    // 가장 큰 셀 코드
+    public static int maxCode() {
+        return BY_CODE.length - 1;
+    }
+
+    private static CellType[] buildCodeTable() {
+        int maxCode = 0;
+        for (CellType type : values()) {
+            maxCode = Math.max(maxCode, type.code);
+        }
+        CellType[] table = new CellType[maxCode + 1];
+        Arrays.fill(table, EMPTY);
         for (CellType type : values()) {
-            if (type.code == code) {
-                return type;
-            }
+            table[type.code] = type;
         }
-        return EMPTY;
+        return table;
     }
 
     public boolean isRoad() {
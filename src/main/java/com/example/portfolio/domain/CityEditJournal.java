@@ -0,0 +1,44 @@
+package com.example.portfolio.domain;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 도시 편집 저널 (셀 단위 저장 기록)
+ *
+ * 셀 단위 저장 시 전체 그리드를 다시 쓰는 대신 변경된 셀만 순번(seq)과 함께 추가한다.
+ * 현재 그리드 = CityMap 스냅샷 (snapshotVersion) + seq > snapshotVersion 인 저널 재적용
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "city_edit_journal",
+        uniqueConstraints = @UniqueConstraint(name = "uk_city_edit_journal_seq", columnNames = {"city_map_id", "seq"}))
+public class CityEditJournal {
+
+    @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "city_map_id", nullable = false)
+    private Long cityMapId;
+
+    @Column(nullable = false)
+    private Long seq;  // 적용 후 그리드 버전 (CityMap.gridVersion)
+
+    @Column(columnDefinition = "MEDIUMBLOB", nullable = false)
+    private byte[] changes;  // GridCodec.encodeChanges 형식
+
+    @Column(nullable = false)
+    private LocalDateTime createdAt;
+
+    public CityEditJournal(Long cityMapId, Long seq, byte[] changes) {
+        this.cityMapId = cityMapId;
+        this.seq = seq;
+        this.changes = changes;
+        this.createdAt = LocalDateTime.now();
+    }
+}
@@ -2,12 +2,14 @@ package com.example.portfolio.domain;
 
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.DynamicUpdate;
 
 import java.time.LocalDateTime;
 
 @Entity
 @Getter
 @Setter
+@DynamicUpdate  // 변경된 컬럼만 UPDATE
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @Table(name = "city_maps")
 public class CityMap {
@@ -26,17 +28,10 @@ public class CityMap {
     @Column(nullable = false, length = 50)
     private String slug;  // URL용 슬러그 (도시 고유 식별자)
 
-    @Column(columnDefinition = "LONGTEXT", nullable = false)
-    private String gridData;
-
-    @Column(columnDefinition = "LONGTEXT")
-    private String buildingsData;  // 건물 레벨/폐건물 상태 JSON
-
-    @Column(columnDefinition = "TEXT")
-    private String cameraState;  // 카메라 위치/타겟 JSON
+    @Column
+    private Long gridVersion = 0L;  // 그리드 변경 버전 (셀 단위 저장 시 충돌 감지용)
 
-    @Column(columnDefinition = "TEXT")
-    private String gameState;  // 게임 시간/날짜 JSON
+    // 그리드/건물/카메라/게임 상태 등 큰 데이터는 CityMapPayload (city_map_payload)에 분리 저장
 
     @Column(length = 100)
     private String templateName;  // 사용된 맵 템플릿 이름
@@ -93,11 +88,10 @@ public class CityMap {
     private LocalDateTime updatedAt;
 
     @Builder
-    public CityMap(User user, String cityName, String slug, String gridData, Long money) {
+    public CityMap(User user, String cityName, String slug, Long money) {
         this.user = user;
         this.cityName = cityName != null ? cityName : "My City";
         this.slug = slug;
-        this.gridData = gridData;
         this.money = money != null ? money : 10000L;
         this.population = 0;
         this.happiness = 50;
@@ -107,6 +101,7 @@ public class CityMap {
         this.fireRisk = 0;
         this.trafficLevel = 0;
         this.hourlyTaxRate = 0;
+        this.gridVersion = 0L;
         this.actionPoints = 10;
         this.consecutiveLoginDays = 0;
         this.unclaimedTax = 0L;
@@ -116,20 +111,12 @@ public class CityMap {
         this.updatedAt = LocalDateTime.now();
     }
 
+    // 기본 도시 생성 (그리드는 CityMapPayload.defaultGridData())
     public static CityMap createDefault(User user, String cityName, String slug) {
-        int[][] grid = new int[50][50];
-
-        // 하단 경계도로만 (y = 48, 49) - LOCKED_ROAD_4LANE = 14
-        for (int x = 0; x < 50; x++) {
-            grid[x][48] = 14;
-            grid[x][49] = 14;
-        }
-
         return CityMap.builder()
                 .user(user)
                 .cityName(cityName)
                 .slug(slug)
-                .gridData(convertGridToJson(grid))
                 .money(5000L)
                 .build();
     }
@@ -139,66 +126,29 @@ public class CityMap {
         return createDefault(user, "My City", "city-1");
     }
 
-    // 템플릿 그리드 데이터로 도시 생성
-    public static CityMap createWithGrid(User user, String cityName, String slug, String gridData, String templateName) {
-        CityMap cityMap = CityMap.builder()
-                .user(user)
-                .cityName(cityName)
-                .slug(slug)
-                .gridData(gridData)
-                .money(5000L)
-                .build();
+    // 템플릿으로 도시 생성 (그리드는 템플릿의 gridData로 CityMapPayload 생성)
+    public static CityMap createWithTemplate(User user, String cityName, String slug, String templateName) {
+        CityMap cityMap = createDefault(user, cityName, slug);
         cityMap.setTemplateName(templateName);
         return cityMap;
     }
 
-    private static String convertGridToJson(int[][] grid) {
-        StringBuilder sb = new StringBuilder("[");
-        for (int x = 0; x < 50; x++) {
-            sb.append("[");
-            for (int y = 0; y < 50; y++) {
-                sb.append(grid[x][y]);
-                if (y < 49) sb.append(",");
-            }
-            sb.append("]");
-            if (x < 49) sb.append(",");
-        }
-        sb.append("]");
-        return sb.toString();
-    }
-
-    public void updateMap(String newGridData, Long newMoney, Integer newHourlyTaxRate) {
-        this.gridData = newGridData;
-        this.money = newMoney;
-        this.hourlyTaxRate = newHourlyTaxRate;
-        this.updatedAt = LocalDateTime.now();
-    }
-
-    public void updateMap(String newGridData, Long newMoney, Integer newHourlyTaxRate, String newBuildingsData) {
-        this.gridData = newGridData;
-        this.money = newMoney;
-        this.hourlyTaxRate = newHourlyTaxRate;
-        this.buildingsData = newBuildingsData;
-        this.updatedAt = LocalDateTime.now();
-    }
-
-    public void updateMap(String newGridData, Long newMoney, Integer newHourlyTaxRate, String newBuildingsData, String newCameraState) {
-        this.gridData = newGridData;
+    /**
+     * 그리드 변경 반영 (전체 저장/셀 단위 저장 공통) - 그리드 데이터 자체는 CityMapPayload 또는 편집 저널에 기록
+     *
+     * @return 새 그리드 버전
+     */
+    public long updateMap(Long newMoney, Integer newHourlyTaxRate) {
+        this.gridVersion = getGridVersion() + 1;
         this.money = newMoney;
         this.hourlyTaxRate = newHourlyTaxRate;
-        this.buildingsData = newBuildingsData;
-        this.cameraState = newCameraState;
         this.updatedAt = LocalDateTime.now();
+        return this.gridVersion;
     }
 
-    public void updateMap(String newGridData, Long newMoney, Integer newHourlyTaxRate, String newBuildingsData, String newCameraState, String newGameState) {
-        this.gridData = newGridData;
-        this.money = newMoney;
-        this.hourlyTaxRate = newHourlyTaxRate;
-        this.buildingsData = newBuildingsData;
-        this.cameraState = newCameraState;
-        this.gameState = newGameState;
-        this.updatedAt = LocalDateTime.now();
+    // 기존 행은 gridVersion 컬럼이 NULL일 수 있음
+    public long getGridVersion() {
+        return gridVersion != null ? gridVersion : 0L;
     }
 
     public void updateStats(Integer population, Integer happiness, Integer powerCapacity,
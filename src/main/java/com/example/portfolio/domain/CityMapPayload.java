@@ -0,0 +1,112 @@
+package com.example.portfolio.domain;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.DynamicUpdate;
+
+import java.time.LocalDateTime;
+
+/**
+ * 도시의 큰 데이터 (그리드 스냅샷, 건물, 카메라, 게임 상태)
+ *
+ * CityMap 행과 분리하여 도시 목록/소유 확인 등에서는 로딩하지 않고,
+ * 도시 전체 화면을 요청할 때만 CityGridService를 통해 조회한다.
+ * 자체 version 컬럼을 가지므로 이 데이터를 저장해도 CityMap 행은 다시 쓰지 않는다.
+ */
+@Entity
+@Getter
+@DynamicUpdate
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "city_map_payload")
+public class CityMapPayload {
+
+    @Id
+    @Column(name = "city_map_id")
+    private Long cityMapId;  // CityMap.id와 동일
+
+    @Convert(converter = GridDataConverter.class)
+    @Column(columnDefinition = "LONGTEXT", nullable = false)
+    private String gridData;  // 그리드 스냅샷 (GridCodec 압축 형식, 기존 JSON 행도 읽기 가능)
+
+    @Column(nullable = false)
+    private Long snapshotVersion = 0L;  // gridData 스냅샷의 그리드 버전 (이후 변경은 편집 저널에 기록)
+
+    @Column(columnDefinition = "LONGTEXT")
+    private String buildingsData;  // 건물 레벨/폐건물 상태 JSON
+
+    @Column(columnDefinition = "TEXT")
+    private String cameraState;  // 카메라 위치/타겟 JSON
+
+    @Column(columnDefinition = "TEXT")
+    private String gameState;  // 게임 시간/날짜 JSON
+
+    @Version
+    private Long version;
+
+    @Column(nullable = false)
+    private LocalDateTime updatedAt;
+
+    public CityMapPayload(Long cityMapId, String gridData) {
+        this.cityMapId = cityMapId;
+        this.gridData = gridData;
+        this.snapshotVersion = 0L;
+        this.updatedAt = LocalDateTime.now();
+    }
+
+    // 기본 그리드 (50x50, 하단 경계도로만)
+    public static String defaultGridData() {
+        int[][] grid = new int[50][50];
+
+        // 하단 경계도로만 (y = 48, 49) - LOCKED_ROAD_4LANE = 14
+        for (int x = 0; x < 50; x++) {
+            grid[x][48] = 14;
+            grid[x][49] = 14;
+        }
+        return GridCodec.encode(grid);
+    }
+
+    /**
+     * 전체 저장 - 그리드 스냅샷과 클라이언트 상태를 모두 교체
+     */
+    public void replaceAll(String newGridData, long newSnapshotVersion,
+                           String newBuildingsData, String newCameraState, String newGameState) {
+        this.gridData = newGridData;
+        this.snapshotVersion = newSnapshotVersion;
+        this.buildingsData = newBuildingsData;
+        this.cameraState = newCameraState;
+        this.gameState = newGameState;
+        this.updatedAt = LocalDateTime.now();
+    }
+
+    /**
+     * 셀 단위 저장 - 전달된 클라이언트 상태만 갱신 (그리드는 편집 저널에 기록)
+     */
+    public void updateClientState(String newBuildingsData, String newCameraState, String newGameState) {
+        if (newBuildingsData != null) {
+            this.buildingsData = newBuildingsData;
+        }
+        if (newCameraState != null) {
+            this.cameraState = newCameraState;
+        }
+        if (newGameState != null) {
+            this.gameState = newGameState;
+        }
+        this.updatedAt = LocalDateTime.now();
+    }
+
+    /**
+     * 저널 압축 - 재적용된 그리드를 새 스냅샷으로 기록
+     */
+    public void compactSnapshot(String newGridData, long newSnapshotVersion) {
+        this.gridData = newGridData;
+        this.snapshotVersion = newSnapshotVersion;
+        this.updatedAt = LocalDateTime.now();
+    }
+
+    // 스냅샷 이후 편집 저널이 남아있는지
+    public boolean isBehind(long gridVersion) {
+        return gridVersion > snapshotVersion;
+    }
+}
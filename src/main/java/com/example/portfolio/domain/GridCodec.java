@@ -0,0 +1,245 @@
+package com.example.portfolio.domain;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.ByteArrayOutputStream;
+import java.util.Base64;
+import java.util.List;
+
+/**
+ * 도시 그리드 압축 코덱
+ *
+ * 저장 형식: "~G1:" + Base64([flags][width varint][height varint][body])
+ * - flags bit0 = 1 이면 RLE body: (셀 값 1바이트, 반복 횟수 varint) 반복
+ * - flags bit0 = 0 이면 raw body: width * height 바이트 (grid[x][y], x 우선)
+ *
+ * 셀 값은 0~255 범위만 압축 가능하며, 범위를 벗어나면 기존 JSON 형식으로 저장한다.
+ * 읽기 시에는 압축 형식, 기존 JSON int[][] 형식, 템플릿의 {tiles, env} 형식을 모두 지원한다.
+ */
+public final class GridCodec {
+
+    public static final String PACKED_PREFIX = "~G1:";
+
+    private static final int FLAG_RLE = 1;
+    private static final int MAX_DIMENSION = 1024;
+    private static final ObjectMapper objectMapper = new ObjectMapper();
+
+    private GridCodec() {
+    }
+
+    public static boolean isPacked(String data) {
+        return data != null && data.startsWith(PACKED_PREFIX);
+    }
+
+    /**
+     * 그리드를 저장 형식으로 변환 (압축 불가능한 값이 있으면 JSON)
+     */
+    public static String encode(int[][] grid) {
+        byte[] packed = pack(grid);
+        if (packed == null) {
+            return toJson(grid);
+        }
+        return PACKED_PREFIX + Base64.getEncoder().encodeToString(packed);
+    }
+
+    /**
+     * 저장된 그리드 데이터 파싱 (압축/JSON/템플릿 형식 모두 지원)
+     *
+     * @throws IllegalArgumentException 알 수 없는 형식인 경우
+     */
+    public static int[][] decode(String data) {
+        if (data == null || data.isEmpty()) {
+            throw new IllegalArgumentException("그리드 데이터가 비어있습니다");
+        }
+        if (isPacked(data)) {
+            try {
+                return unpack(Base64.getDecoder().decode(data.substring(PACKED_PREFIX.length())));
+            } catch (ArrayIndexOutOfBoundsException e) {
+                throw new IllegalArgumentException("압축 그리드 데이터가 손상되었습니다", e);
+            }
+        }
+        try {
+            JsonNode node = objectMapper.readTree(data);
+            if (node != null && node.isObject() && node.has("tiles")) {
+                node = node.get("tiles");
+            }
+            int[][] grid = objectMapper.treeToValue(node, int[][].class);
+            if (grid == null) {
+                throw new IllegalArgumentException("그리드 데이터 형식이 올바르지 않습니다");
+            }
+            return grid;
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("그리드 데이터 형식이 올바르지 않습니다", e);
+        }
+    }
+
+    /**
+     * 파싱 실패 시 size x size 빈 그리드 반환
+     */
+    public static int[][] decodeOrEmpty(String data, int size) {
+        try {
+            return decode(data);
+        } catch (IllegalArgumentException e) {
+            return new int[size][size];
+        }
+    }
+
+    /**
+     * 셀 변경 목록 압축 (편집 저널용): [개수 varint] + {x, y, code} varint 반복
+     *
+     * @param changes {x, y, code} 배열 목록
+     */
+    public static byte[] encodeChanges(List<int[]> changes) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(changes.size() * 3 + 2);
+        writeVarInt(out, changes.size());
+        for (int[] change : changes) {
+            writeVarInt(out, change[0]);
+            writeVarInt(out, change[1]);
+            writeVarInt(out, change[2]);
+        }
+        return out.toByteArray();
+    }
+
+    /**
+     * 압축된 셀 변경 목록을 그리드에 적용 (범위를 벗어난 셀은 무시)
+     */
+    public static void applyChanges(int[][] grid, byte[] encodedChanges) {
+        int[] pos = {0};
+        int count = readVarInt(encodedChanges, pos);
+        for (int i = 0; i < count; i++) {
+            int x = readVarInt(encodedChanges, pos);
+            int y = readVarInt(encodedChanges, pos);
+            int code = readVarInt(encodedChanges, pos);
+            if (x < grid.length && y < grid[x].length) {
+                grid[x][y] = code;
+            }
+        }
+    }
+
+    private static byte[] pack(int[][] grid) {
+        if (grid == null || grid.length == 0 || grid[0] == null) {
+            return null;
+        }
+        int width = grid.length;
+        int height = grid[0].length;
+        for (int[] column : grid) {
+            if (column == null || column.length != height) {
+                return null;
+            }
+            for (int cell : column) {
+                if (cell < 0 || cell > 0xFF) {
+                    return null;
+                }
+            }
+        }
+
+        ByteArrayOutputStream rle = new ByteArrayOutputStream();
+        writeHeader(rle, FLAG_RLE, width, height);
+        int current = grid[0][0];
+        int run = 0;
+        for (int x = 0; x < width; x++) {
+            for (int y = 0; y < height; y++) {
+                int cell = grid[x][y];
+                if (cell == current) {
+                    run++;
+                } else {
+                    rle.write(current);
+                    writeVarInt(rle, run);
+                    current = cell;
+                    run = 1;
+                }
+            }
+        }
+        rle.write(current);
+        writeVarInt(rle, run);
+
+        // RLE가 오히려 큰 경우 (셀이 불규칙한 맵) raw 형식 사용
+        if (rle.size() <= width * height) {
+            return rle.toByteArray();
+        }
+        ByteArrayOutputStream raw = new ByteArrayOutputStream(width * height + 8);
+        writeHeader(raw, 0, width, height);
+        for (int[] column : grid) {
+            for (int cell : column) {
+                raw.write(cell);
+            }
+        }
+        return raw.toByteArray();
+    }
+
+    private static int[][] unpack(byte[] bytes) {
+        int[] pos = {0};
+        int flags = bytes[pos[0]++] & 0xFF;
+        int width = readVarInt(bytes, pos);
+        int height = readVarInt(bytes, pos);
+        if (width <= 0 || height <= 0 || width > MAX_DIMENSION || height > MAX_DIMENSION) {
+            throw new IllegalArgumentException("압축 그리드 크기가 올바르지 않습니다: " + width + "x" + height);
+        }
+        int[][] grid = new int[width][height];
+        int total = width * height;
+
+        if ((flags & FLAG_RLE) != 0) {
+            int index = 0;
+            while (index < total) {
+                int value = bytes[pos[0]++] & 0xFF;
+                int run = readVarInt(bytes, pos);
+                if (run <= 0 || index + run > total) {
+                    throw new IllegalArgumentException("압축 그리드 데이터가 손상되었습니다");
+                }
+                for (int end = index + run; index < end; index++) {
+                    grid[index / height][index % height] = value;
+                }
+            }
+        } else {
+            if (bytes.length - pos[0] < total) {
+                throw new IllegalArgumentException("압축 그리드 데이터가 손상되었습니다");
+            }
+            for (int x = 0; x < width; x++) {
+                for (int y = 0; y < height; y++) {
+                    grid[x][y] = bytes[pos[0]++] & 0xFF;
+                }
+            }
+        }
+        return grid;
+    }
+
+    private static void writeHeader(ByteArrayOutputStream out, int flags, int width, int height) {
+        out.write(flags);
+        writeVarInt(out, width);
+        writeVarInt(out, height);
+    }
+
+    private static void writeVarInt(ByteArrayOutputStream out, int value) {
+        while ((value & ~0x7F) != 0) {
+            out.write((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        out.write(value);
+    }
+
+    private static int readVarInt(byte[] bytes, int[] pos) {
+        int value = 0;
+        int shift = 0;
+        while (true) {
+            if (pos[0] >= bytes.length || shift > 28) {
+                throw new IllegalArgumentException("압축 그리드 데이터가 손상되었습니다");
+            }
+            int b = bytes[pos[0]++] & 0xFF;
+            value |= (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return value;
+            }
+            shift += 7;
+        }
+    }
+
+    private static String toJson(int[][] grid) {
+        try {
+            return objectMapper.writeValueAsString(grid);
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("그리드 직렬화 실패", e);
+        }
+    }
+}
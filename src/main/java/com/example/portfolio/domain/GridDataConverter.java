@@ -0,0 +1,33 @@
+package com.example.portfolio.domain;
+
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+
+/**
+ * CityMapPayload.gridData 저장 시 압축 형식으로 변환하는 JPA 컨버터
+ *
+ * 읽기는 그대로 통과시키고 (GridCodec.decode가 모든 형식을 처리),
+ * 쓰기 시 JSON 형식이면 압축 형식으로 바꿔 저장한다.
+ * 따라서 기존 JSON 행은 다음 저장 시점에 자연스럽게 압축 형식으로 전환된다.
+ */
+@Converter
+public class GridDataConverter implements AttributeConverter<String, String> {
+
+    @Override
+    public String convertToDatabaseColumn(String gridData) {
+        if (gridData == null || GridCodec.isPacked(gridData)) {
+            return gridData;
+        }
+        try {
+            return GridCodec.encode(GridCodec.decode(gridData));
+        } catch (IllegalArgumentException e) {
+            // 알 수 없는 형식은 원본 그대로 저장
+            return gridData;
+        }
+    }
+
+    @Override
+    public String convertToEntityAttribute(String dbData) {
+        return dbData;
+    }
+}
@@ -0,0 +1,42 @@
+package com.example.portfolio.dto;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * 도시 렌더링에 필요한 모델 목록 (우선순위 순서 - 화면에서 차지하는 칸 수가 많은 모델부터)
+ */
+@Getter
+@Builder
+public class CityAssetManifestResponse {
+
+    @JsonIgnore
+    private final String etag;        // 도시 버전 + 빌드 에셋 매니페스트 기준
+
+    private final long totalBytes;    // assets 크기 합계
+    private final List<Asset> assets;
+
+    @Getter
+    @Builder
+    public static class Asset {
+        private final String path;    // static/ 기준 논리 경로 (models/roads/DD.glb)
+        private final String url;     // 요청 URL (해시 경로, 인코딩됨)
+        private final long size;      // 바이트
+        private final String hash;    // 내용 해시 (매니페스트에 없으면 null)
+        private final int footprint;  // 이 모델로 그려지는 칸 수 (우선순위 기준)
+        private final List<Lod> lods; // 단순화 단계 (1단계부터 거칠어지는 순서, 없으면 빈 목록)
+    }
+
+    @Getter
+    @Builder
+    public static class Lod {
+        private final int level;
+        private final String path;
+        private final String url;
+        private final long size;
+        private final double screenSize;  // 모델이 화면 높이의 이 비율보다 작게 보이면 이 단계 사용
+    }
+}
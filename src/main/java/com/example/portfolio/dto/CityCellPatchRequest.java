@@ -0,0 +1,47 @@
+package com.example.portfolio.dto;
+
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.util.List;
+
+@Getter
+@Setter
+public class CityCellPatchRequest {
+    @NotNull
+    @Min(0)
+    private Long baseVersion;  // 클라이언트가 마지막으로 받은 그리드 버전
+
+    @NotNull
+    @Size(max = 4900)
+    @Valid
+    private List<CellChange> changes;  // 변경된 셀 목록
+
+    @JsonDeserialize(using = RawJsonDeserializer.class)
+    private String buildings;  // 건물 데이터 (변경된 경우에만 전송)
+
+    @JsonDeserialize(using = RawJsonDeserializer.class)
+    private String cameraState;  // 카메라 위치/타겟 (선택)
+
+    @JsonDeserialize(using = RawJsonDeserializer.class)
+    private String gameState;  // 게임 시간/날짜 (선택)
+
+    @Getter
+    @Setter
+    public static class CellChange {
+        @NotNull
+        private Integer x;
+
+        @NotNull
+        private Integer y;
+
+        @NotNull
+        @Min(0)
+        private Integer code;  // 새 셀 값 (CellType 코드)
+    }
+}
@@ -0,0 +1,27 @@
+package com.example.portfolio.dto;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+@Builder
+public class CityCellPatchResponse {
+    private final long gridVersion;    // 적용 후 그리드 버전
+    private final long money;          // 서버에서 계산한 자금
+    private final int taxPerHour;      // 갱신된 시간당 세금
+    private final int appliedChanges;  // 실제로 값이 바뀐 셀 수
+
+    // 변경 반영 후 도시 통계 (혼잡도 맵 제외)
+    private final int population;
+    private final int happiness;
+    private final int powerCapacity;
+    private final int powerUsage;
+    private final int crimeRate;
+    private final int fireRisk;
+    private final int trafficLevel;
+
+    // 적용 후 도시 ETag (헤더로만 전달 - 다음 전체 저장의 If-Match로 사용)
+    @JsonIgnore
+    private final String etag;
+}
@@ -1,8 +1,9 @@
 package com.example.portfolio.dto;
 
 import com.example.portfolio.domain.CityMap;
-import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.ObjectMapper;
+import com.example.portfolio.domain.CityMapPayload;
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
 import lombok.Getter;
 
 @Getter
@@ -13,9 +14,11 @@ public class CityMapResponse {
     private final int[][] grid;
     private final Long money;
     private final boolean isOwner;
+    private final long gridVersion;  // 셀 단위 저장(PATCH)의 기준 버전
 
-    // 건물 데이터 (레벨, 폐건물 상태)
-    private final Object buildings;
+    // 건물 데이터 (레벨, 폐건물 상태) - 저장된 JSON을 파싱하지 않고 그대로 응답에 기록
+    @JsonSerialize(using = RawJsonSerializer.class)
+    private final String buildings;
 
     // 도시 통계
     private final Integer population;
@@ -39,22 +42,29 @@ public class CityMapResponse {
     private final Long offlineEarnings;
     private final Long loginReward;
 
-    // 카메라 상태
-    private final Object cameraState;
+    // 카메라 상태 (JSON 원문)
+    @JsonSerialize(using = RawJsonSerializer.class)
+    private final String cameraState;
 
-    // 게임 상태 (시간/날짜)
-    private final Object gameState;
+    // 게임 상태 (시간/날짜, JSON 원문)
+    @JsonSerialize(using = RawJsonSerializer.class)
+    private final String gameState;
 
     // 사용된 맵 템플릿 이름
     private final String templateName;
 
-    private static final ObjectMapper objectMapper = new ObjectMapper();
+    // 응답 ETag (헤더로만 전달, 캐시하면 안 되는 응답은 null)
+    @JsonIgnore
+    private String etag;
 
-    public CityMapResponse(CityMap cityMap, boolean isOwner) {
-        this(cityMap, isOwner, null, null, 0, 0L, 0L);
+    public CityMapResponse(CityMap cityMap, CityMapPayload payload, int[][] grid, boolean isOwner) {
+        this(cityMap, payload, grid, isOwner, null, null, 0, 0L, 0L);
     }
 
-    public CityMapResponse(CityMap cityMap, boolean isOwner, CityStatsResponse stats,
+    /**
+     * @param payload 건물/카메라/게임 상태 (목록 조회 등에서는 null - 해당 필드 생략)
+     */
+    public CityMapResponse(CityMap cityMap, CityMapPayload payload, int[][] grid, boolean isOwner, CityStatsResponse stats,
                           int[][] congestionMap, int taxPerHour,
                           Long offlineEarnings, Long loginReward) {
         this.username = cityMap.getUser().getUsername();
@@ -62,12 +72,13 @@ public class CityMapResponse {
         String name = cityMap.getCityName();
         this.cityName = (name != null && !name.trim().isEmpty()) ? name : "My City";
         this.slug = cityMap.getSlug();
-        this.grid = parseGridData(cityMap.getGridData());
+        this.grid = grid;  // 스냅샷 + 편집 저널이 적용된 현재 그리드 (CityGridService)
         this.money = cityMap.getMoney();
         this.isOwner = isOwner;
+        this.gridVersion = cityMap.getGridVersion();
 
         // 건물 데이터
-        this.buildings = parseBuildingsData(cityMap.getBuildingsData());
+        this.buildings = payload != null ? payload.getBuildingsData() : null;
 
         // 엔티티 통계
         this.population = cityMap.getPopulation();
@@ -92,63 +103,17 @@ public class CityMapResponse {
         this.loginReward = loginReward;
 
         // 카메라 상태
-        this.cameraState = parseCameraState(cityMap.getCameraState());
+        this.cameraState = payload != null ? payload.getCameraState() : null;
 
         // 게임 상태 (시간/날짜)
-        this.gameState = parseGameState(cityMap.getGameState());
+        this.gameState = payload != null ? payload.getGameState() : null;
 
         // 템플릿 이름
         this.templateName = cityMap.getTemplateName();
     }
 
-    private int[][] parseGridData(String gridData) {
-        try {
-            // 먼저 직접 2D 배열로 파싱 시도 (기존 형식)
-            return objectMapper.readValue(gridData, int[][].class);
-        } catch (JsonProcessingException e) {
-            // 실패하면 새 형식 (tiles + env) 시도
-            try {
-                var node = objectMapper.readTree(gridData);
-                if (node.has("tiles")) {
-                    return objectMapper.treeToValue(node.get("tiles"), int[][].class);
-                }
-            } catch (JsonProcessingException ex) {
-                // 무시
-            }
-            return new int[50][50];
-        }
-    }
-
-    private Object parseBuildingsData(String buildingsData) {
-        if (buildingsData == null || buildingsData.isEmpty()) {
-            return null;
-        }
-        try {
-            return objectMapper.readValue(buildingsData, Object.class);
-        } catch (JsonProcessingException e) {
-            return null;
-        }
-    }
-
-    private Object parseCameraState(String cameraState) {
-        if (cameraState == null || cameraState.isEmpty()) {
-            return null;
-        }
-        try {
-            return objectMapper.readValue(cameraState, Object.class);
-        } catch (JsonProcessingException e) {
-            return null;
-        }
-    }
-
-    private Object parseGameState(String gameState) {
-        if (gameState == null || gameState.isEmpty()) {
-            return null;
-        }
-        try {
-            return objectMapper.readValue(gameState, Object.class);
-        } catch (JsonProcessingException e) {
-            return null;
-        }
+    public CityMapResponse withEtag(String etag) {
+        this.etag = etag;
+        return this;
     }
 }
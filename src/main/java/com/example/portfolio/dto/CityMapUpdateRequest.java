@@ -1,5 +1,6 @@
 package com.example.portfolio.dto;
 
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
 import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.NotNull;
 import lombok.Getter;
@@ -15,9 +16,12 @@ public class CityMapUpdateRequest {
     @Min(0)
     private Long money;
 
-    private Object buildings;  // 건물 데이터 (JSON array)
+    @JsonDeserialize(using = RawJsonDeserializer.class)
+    private String buildings;  // 건물 데이터 (JSON array)
 
-    private Object cameraState;  // 카메라 위치/타겟 (JSON object)
+    @JsonDeserialize(using = RawJsonDeserializer.class)
+    private String cameraState;  // 카메라 위치/타겟 (JSON object)
 
-    private Object gameState;  // 게임 시간/날짜 (JSON object)
+    @JsonDeserialize(using = RawJsonDeserializer.class)
+    private String gameState;  // 게임 시간/날짜 (JSON object)
 }
@@ -0,0 +1,17 @@
+package com.example.portfolio.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 홈 화면용 - 도시 목록과 최근 플레이 정보를 한 번에 반환
+ */
+@Getter
+@Builder
+public class CityOverviewResponse {
+    private final List<CitySummaryResponse> cities;  // 최근 플레이 순
+    private final Map<String, Object> lastPlayed;    // /last-played 응답과 같은 형식
+}
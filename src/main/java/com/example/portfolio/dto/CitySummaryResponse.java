@@ -0,0 +1,30 @@
+package com.example.portfolio.dto;
+
+import com.example.portfolio.repository.CitySummary;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+@Getter
+public class CitySummaryResponse {
+
+    private final Long id;
+    private final String cityName;
+    private final String slug;
+    private final Long money;
+    private final Integer population;
+    private final LocalDateTime updatedAt;
+    private final String templateName;
+
+    public CitySummaryResponse(CitySummary summary) {
+        this.id = summary.getId();
+        // cityName이 null이거나 빈 문자열이면 기본값 사용
+        String name = summary.getCityName();
+        this.cityName = (name != null && !name.trim().isEmpty()) ? name : "My City";
+        this.slug = summary.getSlug();
+        this.money = summary.getMoney();
+        this.population = summary.getPopulation();
+        this.updatedAt = summary.getUpdatedAt();
+        this.templateName = summary.getTemplateName();
+    }
+}
@@ -0,0 +1,26 @@
+package com.example.portfolio.dto;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+
+import java.io.IOException;
+import java.io.StringWriter;
+
+/**
+ * 요청의 JSON 값(객체/배열/스칼라)을 Map/List로 만들지 않고 압축된 JSON 문자열로 받음
+ *
+ * 토큰을 그대로 복사하므로 문법 검증은 파싱 중에 이루어지고, 결과 문자열은 항상 유효한 JSON이다.
+ */
+public class RawJsonDeserializer extends JsonDeserializer<String> {
+
+    @Override
+    public String deserialize(JsonParser p, DeserializationContext ctxt) throws IOException {
+        StringWriter writer = new StringWriter();
+        try (JsonGenerator generator = p.getCodec().getFactory().createGenerator(writer)) {
+            generator.copyCurrentStructure(p);
+        }
+        return writer.toString();
+    }
+}
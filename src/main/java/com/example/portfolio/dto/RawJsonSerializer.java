@@ -0,0 +1,30 @@
+package com.example.portfolio.dto;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializerProvider;
+
+import java.io.IOException;
+
+/**
+ * 저장된 JSON 문자열을 파싱하지 않고 응답에 그대로 기록
+ *
+ * 저장 시 RawJsonDeserializer로 검증/정규화된 값만 들어오므로 여기서는 다시 검사하지 않는다.
+ * 빈 문자열은 null로 기록한다.
+ */
+public class RawJsonSerializer extends JsonSerializer<String> {
+
+    @Override
+    public void serialize(String value, JsonGenerator gen, SerializerProvider serializers) throws IOException {
+        if (value.isEmpty()) {
+            gen.writeNull();
+        } else {
+            gen.writeRawValue(value);
+        }
+    }
+
+    @Override
+    public boolean isEmpty(SerializerProvider provider, String value) {
+        return value == null || value.isEmpty();
+    }
+}
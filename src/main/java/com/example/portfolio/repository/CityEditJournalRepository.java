@@ -0,0 +1,30 @@
+package com.example.portfolio.repository;
+
+import com.example.portfolio.domain.CityEditJournal;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface CityEditJournalRepository extends JpaRepository<CityEditJournal, Long> {
+
+    // 스냅샷 이후의 저널 (재적용 순서대로)
+    List<CityEditJournal> findByCityMapIdAndSeqGreaterThanOrderBySeqAsc(Long cityMapId, Long seq);
+
+    @Modifying
+    @Query("delete from CityEditJournal j where j.cityMapId = :cityMapId and j.seq <= :seq")
+    int deleteUpTo(@Param("cityMapId") Long cityMapId, @Param("seq") Long seq);
+
+    @Modifying
+    @Query("delete from CityEditJournal j where j.cityMapId = :cityMapId")
+    int deleteByCityMapId(@Param("cityMapId") Long cityMapId);
+
+    // 압축 대상 도시: 저널이 많이 쌓였거나 오래된 항목이 있는 도시
+    @Query("select j.cityMapId from CityEditJournal j group by j.cityMapId " +
+           "having count(j) >= :maxEntries or min(j.createdAt) < :olderThan")
+    List<Long> findCityMapIdsToCompact(@Param("maxEntries") long maxEntries,
+                                       @Param("olderThan") LocalDateTime olderThan);
+}
@@ -0,0 +1,15 @@
+package com.example.portfolio.repository;
+
+import com.example.portfolio.domain.CityMapPayload;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Optional;
+
+public interface CityMapPayloadRepository extends JpaRepository<CityMapPayload, Long> {
+
+    // ETag 계산용 - 큰 데이터 컬럼은 읽지 않고 버전만 조회
+    @Query("select p.version from CityMapPayload p where p.cityMapId = :cityMapId")
+    Optional<Long> findVersionByCityMapId(@Param("cityMapId") Long cityMapId);
+}
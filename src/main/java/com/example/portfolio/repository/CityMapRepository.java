@@ -2,7 +2,11 @@ package com.example.portfolio.repository;
 
 import com.example.portfolio.domain.CityMap;
 import com.example.portfolio.domain.User;
+import jakarta.persistence.LockModeType;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import java.util.List;
 import java.util.Optional;
@@ -28,4 +32,23 @@ public interface CityMapRepository extends JpaRepository<CityMap, Long> {
     Optional<CityMap> findByUserAndCityName(User user, String cityName);
     Optional<CityMap> findByUserUsernameAndCityName(String username, String cityName);
     boolean existsByUserAndCityName(User user, String cityName);
+
+    // 도시 목록 (요약 정보만, 최근 플레이 순)
+    @Query("select c.id as id, c.cityName as cityName, c.slug as slug, c.money as money, " +
+           "c.population as population, c.updatedAt as updatedAt, c.templateName as templateName, " +
+           "u.lastPlayedCityName as lastPlayedCityName, u.lastPlayedAt as lastPlayedAt " +
+           "from CityMap c join c.user u where u.username = :username order by c.updatedAt desc")
+    List<CitySummary> findSummariesByUsername(@Param("username") String username);
+
+    // ID만 조회 (엔티티 로딩 없이 잠금 조회 전에 사용)
+    @Query("select c.id from CityMap c where c.user = :user and c.cityName = :cityName")
+    Optional<Long> findIdByUserAndCityName(@Param("user") User user, @Param("cityName") String cityName);
+
+    @Query("select min(c.id) from CityMap c where c.user = :user")
+    Optional<Long> findFirstIdByUser(@Param("user") User user);
+
+    // 셀 단위 저장 시 동시 수정 방지 (행 잠금)
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select c from CityMap c where c.id = :id")
+    Optional<CityMap> findByIdForUpdate(@Param("id") Long id);
 }
@@ -0,0 +1,20 @@
+package com.example.portfolio.repository;
+
+import java.time.LocalDateTime;
+
+/**
+ * 도시 목록용 프로젝션 (city_maps 컬럼 + 소유자의 최근 플레이 정보만 조회)
+ */
+public interface CitySummary {
+    Long getId();
+    String getCityName();
+    String getSlug();
+    Long getMoney();
+    Integer getPopulation();
+    LocalDateTime getUpdatedAt();
+    String getTemplateName();
+
+    // 소유자 정보 (모든 행에 동일)
+    String getLastPlayedCityName();
+    LocalDateTime getLastPlayedAt();
+}
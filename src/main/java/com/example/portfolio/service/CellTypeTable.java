@@ -0,0 +1,76 @@
+package com.example.portfolio.service;
+
+import com.example.portfolio.domain.CellType;
+
+/**
+ * CellType 속성을 셀 코드 인덱스의 primitive 배열로 펼친 테이블
+ *
+ * 그리드 전체를 도는 계산에서 CellType 조회/메서드 호출 없이 배열 접근만 하도록 사용한다.
+ * 정의되지 않은 코드와 범위를 벗어난 코드는 index()에서 EMPTY(0)로 처리된다.
+ * 배열은 공유되므로 읽기 전용으로만 사용해야 한다.
+ */
+final class CellTypeTable {
+
+    static final int SIZE = CellType.maxCode() + 1;
+
+    // 분류 플래그
+    static final byte ROAD = 1;
+    static final byte RESIDENTIAL = 1 << 1;
+    static final byte COMMERCIAL = 1 << 2;
+    static final byte INDUSTRIAL = 1 << 3;
+    static final byte POLICE = 1 << 4;
+    static final byte FIRE = 1 << 5;
+    static final byte PARK = 1 << 6;
+    static final byte BUILDING = RESIDENTIAL | COMMERCIAL | INDUSTRIAL;  // 교통/혼잡도 계산 대상
+
+    static final int[] POPULATION = new int[SIZE];
+    static final int[] POWER_PRODUCTION = new int[SIZE];
+    static final int[] POWER_CONSUMPTION = new int[SIZE];
+    static final int[] TAX = new int[SIZE];
+    static final int[] TRAFFIC = new int[SIZE];
+    static final int[] BUILD_COST = new int[SIZE];
+    static final int[] AP_COST = new int[SIZE];
+    static final int[] RADIUS = new int[SIZE];
+    static final byte[] FLAGS = new byte[SIZE];
+
+    static {
+        for (CellType type : CellType.values()) {
+            int code = type.getCode();
+            POPULATION[code] = type.getPopulationBonus();
+            POWER_PRODUCTION[code] = type.getPowerProduction();
+            POWER_CONSUMPTION[code] = type.getPowerConsumption();
+            TAX[code] = type.getTaxPerHour();
+            TRAFFIC[code] = type.getTrafficImpact();
+            BUILD_COST[code] = type.getBuildCost();
+            AP_COST[code] = type.getApCost();
+            RADIUS[code] = type.getEffectRadius();
+            FLAGS[code] = flagsOf(type);
+        }
+    }
+
+    private CellTypeTable() {
+    }
+
+    /**
+     * 셀 값을 테이블 인덱스로 변환 (범위 밖이면 EMPTY)
+     */
+    static int index(int code) {
+        return code >= 0 && code < SIZE ? code : 0;
+    }
+
+    static boolean is(int index, byte flag) {
+        return (FLAGS[index] & flag) != 0;
+    }
+
+    private static byte flagsOf(CellType type) {
+        int flags = 0;
+        if (type.isRoad()) flags |= ROAD;
+        if (type.isResidential()) flags |= RESIDENTIAL;
+        if (type == CellType.COMMERCIAL) flags |= COMMERCIAL;
+        if (type == CellType.INDUSTRIAL) flags |= INDUSTRIAL;
+        if (type == CellType.POLICE_STATION) flags |= POLICE;
+        if (type == CellType.FIRE_STATION) flags |= FIRE;
+        if (type == CellType.PARK) flags |= PARK;
+        return (byte) flags;
+    }
+}
@@ -0,0 +1,133 @@
+package com.example.portfolio.service;
+
+import com.example.portfolio.config.AssetManifest;
+import com.example.portfolio.config.ModelLods;
+import com.example.portfolio.config.StaticAssetDirectory;
+import com.example.portfolio.domain.CityMap;
+import com.example.portfolio.domain.CityMapPayload;
+import com.example.portfolio.dto.CityAssetManifestResponse;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 도시별 에셋 매니페스트 - 그 도시를 그리는 데 필요한 모델만 우선순위 순서로 반환
+ *
+ * (cityId, gridVersion, payloadVersion) 기준으로 캐시한다. 그리드나 건물 데이터가 저장되면 버전이 바뀌므로
+ * 별도 무효화 없이 다음 조회에서 다시 만들어진다 (이전 버전 항목은 접근이 없으면 만료).
+ */
+@Slf4j
+@Service
+public class CityAssetManifestService {
+
+    private final CityGridService cityGridService;
+    private final AssetManifest assetManifest;
+    private final ModelLods modelLods;
+    private final StaticAssetDirectory staticAssetDirectory;
+    private final ObjectMapper objectMapper;
+    private final Cache<Key, CityAssetManifestResponse> cache;
+
+    public CityAssetManifestService(CityGridService cityGridService, AssetManifest assetManifest, ModelLods modelLods,
+                                    StaticAssetDirectory staticAssetDirectory, ObjectMapper objectMapper,
+                                    MeterRegistry meterRegistry) {
+        this.cityGridService = cityGridService;
+        this.assetManifest = assetManifest;
+        this.modelLods = modelLods;
+        this.staticAssetDirectory = staticAssetDirectory;
+        this.objectMapper = objectMapper;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(2000)
+                .expireAfterAccess(Duration.ofMinutes(30))
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "city.asset-manifest");
+    }
+
+    @Transactional(readOnly = true)
+    public CityAssetManifestResponse getManifest(CityMap cityMap) {
+        Long payloadVersion = cityGridService.findPayloadVersion(cityMap);
+        Key key = new Key(cityMap.getId(), cityMap.getGridVersion(), payloadVersion != null ? payloadVersion : -1L);
+        return cache.get(key, k -> build(cityMap, k));
+    }
+
+    private CityAssetManifestResponse build(CityMap cityMap, Key key) {
+        CityMapPayload payload = cityGridService.loadPayload(cityMap);
+        int[][] grid = cityGridService.loadGrid(cityMap, payload);
+        Map<String, Integer> footprints = CityModelCatalog.collect(grid, parseBuildings(payload.getBuildingsData()));
+
+        List<CityAssetManifestResponse.Asset> assets = new ArrayList<>(footprints.size());
+        long totalBytes = 0;
+        for (Map.Entry<String, Integer> entry : footprints.entrySet()) {
+            String path = entry.getKey();
+            long size = staticAssetDirectory.size(path);
+            if (size < 0) {
+                continue;  // 클라이언트에 정의되어 있지만 파일이 없는 모델
+            }
+            assets.add(CityAssetManifestResponse.Asset.builder()
+                    .path(path)
+                    .url(assetManifest.url(path))
+                    .size(size)
+                    .hash(assetManifest.hash(path))
+                    .footprint(entry.getValue())
+                    .lods(lods(path))
+                    .build());
+            totalBytes += size;
+        }
+        assets.sort(Comparator.comparingInt(CityAssetManifestResponse.Asset::getFootprint).reversed()
+                .thenComparing(CityAssetManifestResponse.Asset::getPath));
+
+        String etag = "\"" + Long.toHexString(key.cityMapId()) + "-" + Long.toHexString(key.gridVersion())
+                + "-" + Long.toHexString(key.payloadVersion()) + "-" + assetManifest.fingerprint() + "\"";
+        return CityAssetManifestResponse.builder()
+                .etag(etag)
+                .totalBytes(totalBytes)
+                .assets(List.copyOf(assets))
+                .build();
+    }
+
+    private List<CityAssetManifestResponse.Lod> lods(String path) {
+        List<CityAssetManifestResponse.Lod> lods = new ArrayList<>();
+        for (ModelLods.Level level : modelLods.levels(path)) {
+            long size = staticAssetDirectory.size(level.path());
+            if (size < 0) {
+                continue;
+            }
+            lods.add(CityAssetManifestResponse.Lod.builder()
+                    .level(level.level())
+                    .path(level.path())
+                    .url(assetManifest.url(level.path()))
+                    .size(size)
+                    .screenSize(level.screenSize())
+                    .build());
+        }
+        return List.copyOf(lods);
+    }
+
+    private JsonNode parseBuildings(String buildingsData) {
+        if (buildingsData == null || buildingsData.isBlank()) {
+            return null;
+        }
+        try {
+            return objectMapper.readTree(buildingsData);
+        } catch (JsonProcessingException e) {
+            log.warn("건물 데이터 파싱 실패 - 그리드 기준 모델만 포함: {}", e.getMessage());
+            return null;
+        }
+    }
+
+    private record Key(Long cityMapId, long gridVersion, long payloadVersion) {
+    }
+}
@@ -0,0 +1,76 @@
+package com.example.portfolio.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * 파싱된 도시 그리드 캐시 (cityId + gridVersion 기준)
+ *
+ * 그리드 변경은 항상 gridVersion을 올리므로 버전이 다르면 캐시를 사용하지 않는다.
+ * 캐시된 배열은 공유되므로 외부에는 항상 복사본을 반환한다.
+ * 크기는 셀 수 기준 가중치로 제한하며 (W-TinyLFU), 적중률은 /actuator/metrics의 cache.* 로 확인한다.
+ */
+@Component
+public class CityGridCache {
+
+    private final Cache<Long, CachedGrid> cache;
+
+    public CityGridCache(MeterRegistry meterRegistry,
+                         @Value("${city.grid-cache.max-cells:10000000}") long maxCells,
+                         @Value("${city.grid-cache.expire-after-access-minutes:30}") long expireMinutes) {
+        this.cache = Caffeine.newBuilder()
+                .maximumWeight(maxCells)
+                .weigher((Long cityMapId, CachedGrid entry) -> entry.cellCount())
+                .expireAfterAccess(Duration.ofMinutes(expireMinutes))
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "city.grid");
+    }
+
+    /**
+     * 캐시된 그리드 복사본 조회 (없거나 버전이 다르면 null)
+     */
+    public int[][] get(Long cityMapId, long gridVersion) {
+        CachedGrid entry = cache.getIfPresent(cityMapId);
+        if (entry == null || entry.gridVersion() != gridVersion) {
+            return null;
+        }
+        return copy(entry.grid());
+    }
+
+    /**
+     * 조회한 그리드 저장 (호출자가 이후 배열을 수정해도 되도록 복사해서 보관)
+     */
+    public void put(Long cityMapId, long gridVersion, int[][] grid) {
+        CachedGrid newEntry = new CachedGrid(gridVersion, copy(grid));
+        // 늦게 끝난 이전 버전 조회가 최신 항목을 덮어쓰지 않도록
+        cache.asMap().merge(cityMapId, newEntry,
+                (current, candidate) -> candidate.gridVersion() >= current.gridVersion() ? candidate : current);
+    }
+
+    public void invalidate(Long cityMapId) {
+        if (cityMapId != null) {
+            cache.invalidate(cityMapId);
+        }
+    }
+
+    private static int[][] copy(int[][] grid) {
+        int[][] copy = new int[grid.length][];
+        for (int x = 0; x < grid.length; x++) {
+            copy[x] = grid[x].clone();
+        }
+        return copy;
+    }
+
+    private record CachedGrid(long gridVersion, int[][] grid) {
+        int cellCount() {
+            return grid.length == 0 ? 1 : grid.length * grid[0].length;
+        }
+    }
+}
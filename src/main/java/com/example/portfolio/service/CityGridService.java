@@ -0,0 +1,182 @@
+package com.example.portfolio.service;
+
+import com.example.portfolio.domain.CityEditJournal;
+import com.example.portfolio.domain.CityMap;
+import com.example.portfolio.domain.CityMapPayload;
+import com.example.portfolio.domain.GridCodec;
+import com.example.portfolio.repository.CityEditJournalRepository;
+import com.example.portfolio.repository.CityMapPayloadRepository;
+import com.example.portfolio.repository.CityMapRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+/**
+ * 도시 그리드 조회/저장 서비스
+ *
+ * 현재 그리드 = CityMapPayload.gridData 스냅샷 + 스냅샷 이후의 편집 저널 재적용.
+ * 그리드/건물 등 큰 데이터는 CityMap과 분리되어 있으며, 모든 서비스는 이 서비스를 통해 조회한다.
+ * 파싱된 그리드는 CityGridCache에 (cityId, gridVersion) 기준으로 캐시된다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class CityGridService {
+
+    private static final int GRID_SIZE = 70;
+
+    private final CityEditJournalRepository journalRepository;
+    private final CityMapRepository cityMapRepository;
+    private final CityMapPayloadRepository payloadRepository;
+    private final CityGridCache gridCache;
+    private final CityMapPayloadMigrator payloadMigrator;
+
+    /**
+     * 도시의 큰 데이터 조회
+     *
+     * 저장 전 도시(id 없음)만 기본 그리드로 채운다. 저장된 도시에 payload 행이 없으면
+     * 기존 city_maps 데이터로 채운 저장되지 않은 객체를 반환하고, 그것도 없으면 IllegalStateException
+     * (기본 그리드로 대신하면 다음 저장 시 기존 그리드를 덮어쓴다).
+     */
+    @Transactional(readOnly = true)
+    public CityMapPayload loadPayload(CityMap cityMap) {
+        if (cityMap.getId() == null) {
+            return new CityMapPayload(null, CityMapPayload.defaultGridData());
+        }
+        return payloadRepository.findById(cityMap.getId())
+                .or(() -> payloadMigrator.findLegacyPayload(cityMap.getId()))
+                .orElseThrow(() -> new IllegalStateException("도시 데이터 없음: cityMapId=" + cityMap.getId()));
+    }
+
+    /**
+     * 현재 그리드 조회 (스냅샷 + 저널 재적용). 반환된 배열은 호출자가 수정해도 된다.
+     */
+    @Transactional(readOnly = true)
+    public int[][] loadGrid(CityMap cityMap) {
+        int[][] cached = gridCache.get(cityMap.getId(), cityMap.getGridVersion());
+        if (cached != null) {
+            return cached;
+        }
+        return loadGrid(cityMap, loadPayload(cityMap));
+    }
+
+    /**
+     * 이미 조회한 payload로 현재 그리드 조회
+     */
+    @Transactional(readOnly = true)
+    public int[][] loadGrid(CityMap cityMap, CityMapPayload payload) {
+        if (cityMap.getId() == null) {
+            return GridCodec.decodeOrEmpty(payload.getGridData(), GRID_SIZE);
+        }
+        int[][] cached = gridCache.get(cityMap.getId(), cityMap.getGridVersion());
+        if (cached != null) {
+            return cached;
+        }
+
+        int[][] grid = GridCodec.decodeOrEmpty(payload.getGridData(), GRID_SIZE);
+        if (payload.isBehind(cityMap.getGridVersion())) {
+            List<CityEditJournal> tail = journalRepository.findByCityMapIdAndSeqGreaterThanOrderBySeqAsc(
+                    cityMap.getId(), payload.getSnapshotVersion());
+            for (CityEditJournal entry : tail) {
+                GridCodec.applyChanges(grid, entry.getChanges());
+            }
+        }
+        gridCache.put(cityMap.getId(), cityMap.getGridVersion(), grid);
+        return grid;
+    }
+
+    /**
+     * 그리드 변경 시 호출 (CityMap.updateMap 직후) - 캐시된 이전 버전 그리드 제거
+     */
+    public void evictGrid(CityMap cityMap) {
+        gridCache.invalidate(cityMap.getId());
+    }
+
+    /**
+     * 새 도시의 큰 데이터 저장 (CityMap 저장 후 호출)
+     */
+    @Transactional
+    public CityMapPayload createPayload(CityMap cityMap, String gridData) {
+        return payloadRepository.save(new CityMapPayload(cityMap.getId(), gridData));
+    }
+
+    /**
+     * 저장 후 바로 flush - 응답의 ETag가 커밋될 버전을 반영하도록 @Version을 먼저 확정
+     */
+    @Transactional
+    public CityMapPayload savePayload(CityMapPayload payload) {
+        return payloadRepository.saveAndFlush(payload);
+    }
+
+    /**
+     * payload 버전만 조회 (행이 없으면 null)
+     */
+    @Transactional(readOnly = true)
+    public Long findPayloadVersion(CityMap cityMap) {
+        if (cityMap.getId() == null) {
+            return null;
+        }
+        return payloadRepository.findVersionByCityMapId(cityMap.getId()).orElse(null);
+    }
+
+    /**
+     * 셀 변경을 저널에 추가 (CityMap.updateMap으로 버전을 올린 뒤 호출)
+     *
+     * @param changes {x, y, code} 배열 목록
+     */
+    @Transactional
+    public void appendJournal(CityMap cityMap, List<int[]> changes) {
+        journalRepository.save(new CityEditJournal(
+                cityMap.getId(), cityMap.getGridVersion(), GridCodec.encodeChanges(changes)));
+    }
+
+    /**
+     * 전체 그리드 저장 후 호출 - 새 스냅샷이 저널을 대체하므로 기존 저널 삭제
+     */
+    @Transactional
+    public void clearJournal(CityMap cityMap) {
+        if (cityMap.getId() != null) {
+            journalRepository.deleteByCityMapId(cityMap.getId());
+        }
+    }
+
+    /**
+     * 도시 삭제 전 호출 - 저널과 큰 데이터 삭제
+     */
+    @Transactional
+    public void deleteCityData(CityMap cityMap) {
+        clearJournal(cityMap);
+        evictGrid(cityMap);
+        if (cityMap.getId() != null && payloadRepository.existsById(cityMap.getId())) {
+            payloadRepository.deleteById(cityMap.getId());
+        }
+    }
+
+    /**
+     * 저널 압축 - 저널을 스냅샷에 합치고 합쳐진 저널 삭제
+     */
+    @Transactional
+    public void compact(Long cityMapId) {
+        // 도시 행을 잠가 압축 중 셀 저장(버전 증가)과 겹치지 않게 한다
+        CityMap cityMap = cityMapRepository.findByIdForUpdate(cityMapId).orElse(null);
+        if (cityMap == null) {
+            // 삭제된 도시의 저널 정리
+            journalRepository.deleteByCityMapId(cityMapId);
+            return;
+        }
+        CityMapPayload payload = payloadRepository.findById(cityMapId).orElse(null);
+        if (payload == null) {
+            // 아직 city_map_payload로 옮겨지지 않은 도시 (CityMapPayloadMigrator 이후 재시도)
+            return;
+        }
+        if (payload.isBehind(cityMap.getGridVersion())) {
+            int[][] grid = loadGrid(cityMap, payload);
+            payload.compactSnapshot(GridCodec.encode(grid), cityMap.getGridVersion());
+        }
+        int deleted = journalRepository.deleteUpTo(cityMapId, payload.getSnapshotVersion());
+        log.debug("편집 저널 압축: cityMapId={}, version={}, deleted={}", cityMapId, payload.getSnapshotVersion(), deleted);
+    }
+}
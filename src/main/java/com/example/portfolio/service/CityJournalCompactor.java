@@ -0,0 +1,45 @@
+package com.example.portfolio.service;
+
+import com.example.portfolio.repository.CityEditJournalRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 편집 저널 백그라운드 압축
+ * 저널이 일정 개수 이상 쌓였거나 오래된 도시의 저널을 스냅샷으로 합친다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CityJournalCompactor {
+
+    private final CityEditJournalRepository journalRepository;
+    private final CityGridService cityGridService;
+
+    @Value("${city.journal.compact-max-entries:50}")
+    private long maxEntries;
+
+    @Value("${city.journal.compact-max-age-minutes:10}")
+    private long maxAgeMinutes;
+
+    @Scheduled(fixedDelayString = "${city.journal.compact-interval-ms:60000}")
+    public void compactJournals() {
+        List<Long> cityMapIds = journalRepository.findCityMapIdsToCompact(
+                maxEntries, LocalDateTime.now().minusMinutes(maxAgeMinutes));
+
+        for (Long cityMapId : cityMapIds) {
+            try {
+                cityGridService.compact(cityMapId);
+            } catch (Exception e) {
+                // 한 도시의 실패가 다른 도시 압축을 막지 않도록 (다음 주기에 재시도)
+                log.warn("편집 저널 압축 실패: cityMapId={}, {}", cityMapId, e.getMessage());
+            }
+        }
+    }
+}
@@ -0,0 +1,81 @@
+package com.example.portfolio.service;
+
+import com.example.portfolio.domain.CityMap;
+
+import java.util.Objects;
+
+/**
+ * 도시 조회 응답의 strong ETag - "상태-뷰" 형식
+ *
+ * 상태: 응답에 들어가는 CityMap 필드 + 그리드 버전 + CityMapPayload 버전 (그리드 스냅샷, 건물/카메라/게임 상태)
+ * 뷰: 조회자에 따라 달라지는 값 (소유자 여부, 오프라인 수익, 로그인 보상)
+ *
+ * If-None-Match는 전체 태그를 비교하고, PUT의 If-Match는 상태 부분만 비교한다
+ * (오프라인 수익은 시간이 지나면 바뀌므로 뷰까지 비교하면 변경이 없어도 실패하게 됨).
+ */
+public final class CityMapETag {
+
+    private CityMapETag() {
+    }
+
+    public static String of(CityMap cityMap, Long payloadVersion, boolean isOwner, long offlineEarnings, long loginReward) {
+        long view = mix(mix(mix(isOwner ? 1 : 0) ^ offlineEarnings) ^ loginReward);
+        return "\"" + Long.toHexString(state(cityMap, payloadVersion)) + "-" + Long.toHexString(view) + "\"";
+    }
+
+    /**
+     * If-Match 헤더 값 중 하나라도 현재 상태와 같으면 true ("*"는 항상 일치)
+     */
+    public static boolean matchesState(String ifMatch, CityMap cityMap, Long payloadVersion) {
+        String current = Long.toHexString(state(cityMap, payloadVersion));
+        for (String tag : ifMatch.split(",")) {
+            tag = tag.trim();
+            if (tag.equals("*")) {
+                return true;
+            }
+            if (tag.startsWith("W/")) {
+                continue;  // strong 비교만 허용
+            }
+            if (tag.length() >= 2 && tag.startsWith("\"") && tag.endsWith("\"")) {
+                tag = tag.substring(1, tag.length() - 1);
+            }
+            int separator = tag.indexOf('-');
+            if (separator > 0 && tag.substring(0, separator).equals(current)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    static long state(CityMap cityMap, Long payloadVersion) {
+        long h = mix(Objects.hashCode(cityMap.getId()));
+        h = mix(h ^ cityMap.getGridVersion());
+        h = mix(h ^ (payloadVersion != null ? payloadVersion : -1L));
+        h = mix(h ^ Objects.hashCode(cityMap.getCityName()));
+        h = mix(h ^ Objects.hashCode(cityMap.getSlug()));
+        h = mix(h ^ Objects.hashCode(cityMap.getTemplateName()));
+        h = mix(h ^ valueOf(cityMap.getMoney()));
+        h = mix(h ^ Objects.hashCode(cityMap.getPopulation()));
+        h = mix(h ^ Objects.hashCode(cityMap.getHappiness()));
+        h = mix(h ^ Objects.hashCode(cityMap.getPowerCapacity()));
+        h = mix(h ^ Objects.hashCode(cityMap.getPowerUsage()));
+        h = mix(h ^ Objects.hashCode(cityMap.getCrimeRate()));
+        h = mix(h ^ Objects.hashCode(cityMap.getFireRisk()));
+        h = mix(h ^ Objects.hashCode(cityMap.getTrafficLevel()));
+        h = mix(h ^ Objects.hashCode(cityMap.getActionPoints()));
+        h = mix(h ^ Objects.hashCode(cityMap.getConsecutiveLoginDays()));
+        h = mix(h ^ valueOf(cityMap.getUnclaimedTax()));
+        return h;
+    }
+
+    private static long valueOf(Long value) {
+        return value != null ? value : Long.MIN_VALUE;
+    }
+
+    private static long mix(long z) {
+        z = (z + 0x9E3779B97F4A7C15L);
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+}
@@ -0,0 +1,93 @@
+package com.example.portfolio.service;
+
+import com.example.portfolio.domain.CityMapPayload;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.Optional;
+
+/**
+ * city_maps 행에 남아있는 기존 큰 데이터(grid_data 등)를 city_map_payload로 옮기는 일회성 마이그레이션
+ *
+ * 웹 서버가 요청을 받기 전(싱글톤 초기화 직후)에 실행된다. 요청이 먼저 들어와 옮겨지지 않은 도시를
+ * 저장하면 city_map_payload 행이 생겨 기존 grid_data가 건너뛰어지기 때문이다.
+ * ddl-auto=update는 컬럼을 삭제하지 않으므로 기존 컬럼은 그대로 두고 (수동 정리 대상),
+ * 새 도시 INSERT가 실패하지 않도록 grid_data의 NOT NULL 제약만 해제한다.
+ * 이미 옮겨진 도시는 건너뛰므로 매 기동 시 실행해도 안전하다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CityMapPayloadMigrator implements SmartInitializingSingleton {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    // 기존 컬럼의 snapshot_version 식 (기존 grid_data 컬럼이 없으면 null)
+    private volatile String legacySnapshotVersion;
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        if (!hasColumn("city_maps", "grid_data")) {
+            return;
+        }
+
+        legacySnapshotVersion = hasColumn("city_maps", "snapshot_version")
+                ? "COALESCE(c.snapshot_version, c.grid_version, 0)"
+                : hasColumn("city_maps", "grid_version") ? "COALESCE(c.grid_version, 0)" : "0";
+
+        int migrated = jdbcTemplate.update(
+                "INSERT INTO city_map_payload " +
+                "(city_map_id, grid_data, snapshot_version, buildings_data, camera_state, game_state, version, updated_at) " +
+                "SELECT c.id, c.grid_data, " + legacySnapshotVersion + ", c.buildings_data, c.camera_state, c.game_state, 0, c.updated_at " +
+                "FROM city_maps c LEFT JOIN city_map_payload p ON p.city_map_id = c.id " +
+                "WHERE p.city_map_id IS NULL AND c.grid_data IS NOT NULL");
+        if (migrated > 0) {
+            log.info("도시 데이터 분리 마이그레이션: {}개 도시를 city_map_payload로 이동", migrated);
+        }
+
+        if (isNotNull("city_maps", "grid_data")) {
+            jdbcTemplate.execute("ALTER TABLE city_maps MODIFY grid_data LONGTEXT NULL");
+        }
+    }
+
+    /**
+     * city_map_payload 행이 없는 도시의 기존 city_maps 데이터 조회 (저장되지 않은 객체, 기존 데이터가 없으면 empty)
+     *
+     * 저장하면 기존 데이터 전체가 city_map_payload로 옮겨진다.
+     */
+    public Optional<CityMapPayload> findLegacyPayload(Long cityMapId) {
+        String snapshotVersion = legacySnapshotVersion;
+        if (snapshotVersion == null) {
+            return Optional.empty();
+        }
+        return jdbcTemplate.query(
+                "SELECT c.grid_data, " + snapshotVersion + " AS snapshot_version, c.buildings_data, c.camera_state, c.game_state " +
+                "FROM city_maps c WHERE c.id = ? AND c.grid_data IS NOT NULL",
+                (rs, rowNum) -> {
+                    CityMapPayload payload = new CityMapPayload(cityMapId, rs.getString("grid_data"));
+                    payload.replaceAll(rs.getString("grid_data"), rs.getLong("snapshot_version"),
+                            rs.getString("buildings_data"), rs.getString("camera_state"), rs.getString("game_state"));
+                    return payload;
+                },
+                cityMapId).stream().findFirst();
+    }
+
+    private boolean hasColumn(String table, String column) {
+        Integer count = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM information_schema.columns " +
+                "WHERE table_schema = DATABASE() AND table_name = ? AND column_name = ?",
+                Integer.class, table, column);
+        return count != null && count > 0;
+    }
+
+    private boolean isNotNull(String table, String column) {
+        Integer count = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM information_schema.columns " +
+                "WHERE table_schema = DATABASE() AND table_name = ? AND column_name = ? AND is_nullable = 'NO'",
+                Integer.class, table, column);
+        return count != null && count > 0;
+    }
+}
@@ -0,0 +1,13 @@
+package com.example.portfolio.service;
+
+/**
+ * 전체 저장(PUT)의 If-Match가 현재 도시 상태와 다름 - 컨트롤러가 412로 응답
+ *
+ * 다른 IllegalStateException(데이터 누락 등)과 구분하기 위한 전용 예외.
+ */
+public class CityMapPreconditionFailedException extends RuntimeException {
+
+    public CityMapPreconditionFailedException(String message) {
+        super(message);
+    }
+}
@@ -2,23 +2,34 @@ package com.example.portfolio.service;
 
 import com.example.portfolio.domain.CellType;
 import com.example.portfolio.domain.CityMap;
+import com.example.portfolio.domain.CityMapPayload;
+import com.example.portfolio.domain.GridCodec;
 import com.example.portfolio.domain.MapTemplate;
 import com.example.portfolio.domain.User;
+import com.example.portfolio.dto.CityAssetManifestResponse;
+import com.example.portfolio.dto.CityCellPatchRequest;
+import com.example.portfolio.dto.CityCellPatchResponse;
 import com.example.portfolio.dto.CityMapResponse;
 import com.example.portfolio.dto.CityMapUpdateRequest;
+import com.example.portfolio.dto.CityOverviewResponse;
 import com.example.portfolio.dto.CityStatsResponse;
+import com.example.portfolio.dto.CitySummaryResponse;
 import com.example.portfolio.dto.MapTemplateResponse;
 import com.example.portfolio.repository.CityMapRepository;
+import com.example.portfolio.repository.CitySummary;
 import com.example.portfolio.repository.MapTemplateRepository;
 import com.example.portfolio.repository.UserRepository;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -33,7 +44,10 @@ public class CityMapService {
     private final UserRepository userRepository;
     private final MapTemplateRepository mapTemplateRepository;
     private final CityStatsService cityStatsService;
+    private final CityGridService cityGridService;
     private final GameSecurityService gameSecurityService;
+    private final PublicCityResponseCache publicResponseCache;
+    private final CityAssetManifestService cityAssetManifestService;
     private final ObjectMapper objectMapper;
 
     private static final int GRID_SIZE = 70;
@@ -49,31 +63,21 @@ public class CityMapService {
         User user = userRepository.findByUsername(username)
                 .orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다: " + username));
 
-        CityMap cityMap;
-        if (cityName != null && !cityName.isEmpty()) {
-            // 특정 도시 이름 요청
-            cityMap = cityMapRepository.findByUserAndCityName(user, cityName).orElse(null);
-
-            // "My City"로 요청했는데 없으면, 기본 도시(첫 번째 도시) 반환
-            if (cityMap == null && "My City".equals(cityName)) {
-                cityMap = cityMapRepository.findFirstByUser(user).orElse(null);
-            }
-
-            if (cityMap == null) {
+        CityMap cityMap = findCityMap(user, cityName);
+        if (cityMap == null) {
+            if (cityName != null && !cityName.isEmpty()) {
                 throw new IllegalArgumentException("도시를 찾을 수 없습니다: " + cityName);
             }
-        } else {
             // 기본 도시 요청 - 없으면 새로 생성
-            cityMap = cityMapRepository.findFirstByUser(user).orElse(null);
-            if (cityMap == null) {
-                cityMap = createDefaultMap(user);
-            }
+            cityMap = createDefaultMap(user);
         }
 
         boolean isOwner = username.equals(currentUsername);
 
         // 통계 계산 (DB에 저장하지 않고 메모리에서만 계산)
-        CityStatsResponse stats = cityStatsService.calculateStats(cityMap);
+        CityMapPayload payload = cityGridService.loadPayload(cityMap);
+        int[][] grid = cityGridService.loadGrid(cityMap, payload);
+        CityStatsResponse stats = cityStatsService.calculateStats(cityMap, grid);
 
         long offlineEarnings = 0;
         long loginReward = 0;
@@ -89,7 +93,7 @@ public class CityMapService {
                 ? cityMap.getLastLoginDate().toLocalDate()
                 : null;
 
-            if (lastLogin == null || !lastLogin.equals(today)) {
+            if (isDailyResetPending(cityMap)) {
                 needsUpdate = true;
                 loginReward = cityStatsService.calculateLoginReward(
                     calculateNewConsecutiveDays(cityMap, today, lastLogin)
@@ -107,13 +111,80 @@ public class CityMapService {
             updateLastPlayedCity(user.getId(), cityMap.getCityName());
         }
 
+        // 일일 리셋/로그인 보상이 포함된 응답은 다음 조회와 내용이 달라지므로 ETag를 붙이지 않음
+        String etag = needsUpdate ? null
+            : CityMapETag.of(cityMap, payload.getVersion(), isOwner, offlineEarnings, loginReward);
+
         return new CityMapResponse(
-            cityMap, isOwner, stats,
+            cityMap, payload, grid, isOwner, stats,
             stats.getCongestionMap(),
             stats.getTaxPerHour(),
             offlineEarnings,
             loginReward
-        );
+        ).withEtag(etag);
+    }
+
+    /**
+     * 조건부 조회(If-None-Match)용 현재 ETag - 그리드/통계/응답 객체는 만들지 않음
+     *
+     * 도시가 없거나(기본 도시 생성 필요) 소유자의 일일 리셋이 필요한 경우처럼
+     * 조회에 부수 효과가 있으면 null을 반환하여 전체 조회를 하도록 한다.
+     */
+    @Transactional(readOnly = true)
+    public String getMapETag(String username, String cityName, String currentUsername) {
+        User user = userRepository.findByUsername(username).orElse(null);
+        if (user == null) {
+            return null;
+        }
+        CityMap cityMap = findCityMap(user, cityName);
+        if (cityMap == null) {
+            return null;
+        }
+
+        boolean isOwner = username.equals(currentUsername);
+        long offlineEarnings = 0;
+        if (isOwner) {
+            if (isDailyResetPending(cityMap)) {
+                return null;
+            }
+            offlineEarnings = cityStatsService.calculateOfflineEarnings(cityMap);
+            updateLastPlayedCity(user.getId(), cityMap.getCityName());
+        }
+
+        return CityMapETag.of(cityMap, cityGridService.findPayloadVersion(cityMap), isOwner, offlineEarnings, 0L);
+    }
+
+    /**
+     * 도시 렌더링에 필요한 모델 목록 (누구나 조회 가능, 도시가 없어도 기본 도시를 만들지 않음)
+     */
+    @Transactional(readOnly = true)
+    public CityAssetManifestResponse getAssetManifest(String username, String cityName) {
+        User user = userRepository.findByUsername(username)
+                .orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다: " + username));
+        CityMap cityMap = findCityMap(user, cityName);
+        if (cityMap == null) {
+            throw new IllegalArgumentException("도시를 찾을 수 없습니다: " + cityName);
+        }
+        return cityAssetManifestService.getManifest(cityMap);
+    }
+
+    /**
+     * 도시 이름으로 조회 ("My City"로 요청했는데 없으면 첫 번째 도시), 이름이 없으면 첫 번째 도시
+     */
+    private CityMap findCityMap(User user, String cityName) {
+        if (cityName == null || cityName.isEmpty()) {
+            return cityMapRepository.findFirstByUser(user).orElse(null);
+        }
+        CityMap cityMap = cityMapRepository.findByUserAndCityName(user, cityName).orElse(null);
+        if (cityMap == null && "My City".equals(cityName)) {
+            cityMap = cityMapRepository.findFirstByUser(user).orElse(null);
+        }
+        return cityMap;
+    }
+
+    private boolean isDailyResetPending(CityMap cityMap) {
+        return cityMap.getLastLoginDate() == null
+            || !cityMap.getLastLoginDate().toLocalDate().equals(LocalDate.now());
     }
 
     private int calculateNewConsecutiveDays(CityMap cityMap, LocalDate today, LocalDate lastLogin) {
@@ -138,6 +209,7 @@ public class CityMapService {
         cityMapRepository.findById(cityMapId).ifPresent(cityMap -> {
             cityMap.resetDailyActionPoints();
             cityMap.updateLoginStreak(LocalDateTime.now());
+            publicResponseCache.evictAfterCommit(cityMap.getUser().getUsername(), cityMap.getCityName());
         });
     }
 
@@ -174,7 +246,8 @@ public class CityMapService {
             return null;
         }
 
-        return new CityMapResponse(cityMap, true);
+        CityMapPayload payload = cityGridService.loadPayload(cityMap);
+        return new CityMapResponse(cityMap, payload, cityGridService.loadGrid(cityMap, payload), true);
     }
 
     /**
@@ -182,43 +255,66 @@ public class CityMapService {
      */
     @Transactional(readOnly = true)
     public Map<String, Object> getLastPlayedCityInfo(String username) {
-        User user = userRepository.findByUsername(username).orElse(null);
-        if (user == null) {
+        return toLastPlayedInfo(cityMapRepository.findSummariesByUsername(username));
+    }
+
+    /**
+     * 홈 화면용 도시 목록 + 최근 플레이 정보 (요약 쿼리 1회)
+     */
+    @Transactional(readOnly = true)
+    public CityOverviewResponse getCityOverview(String username) {
+        List<CitySummary> summaries = cityMapRepository.findSummariesByUsername(username);
+        Map<String, Object> lastPlayed = toLastPlayedInfo(summaries);
+
+        return CityOverviewResponse.builder()
+                .cities(summaries.stream().map(CitySummaryResponse::new).collect(Collectors.toList()))
+                .lastPlayed(lastPlayed != null ? lastPlayed : Map.of("exists", false))
+                .build();
+    }
+
+    private Map<String, Object> toLastPlayedInfo(List<CitySummary> summaries) {
+        if (summaries.isEmpty()) {
             return null;
         }
 
-        CityMap cityMap = null;
-
         // 최근 플레이한 도시가 있으면 그것을 사용
-        if (user.getLastPlayedCityName() != null && !user.getLastPlayedCityName().isEmpty()) {
-            cityMap = cityMapRepository.findByUserAndCityName(user, user.getLastPlayedCityName()).orElse(null);
+        String lastPlayedCityName = summaries.get(0).getLastPlayedCityName();
+        CitySummary city = null;
+        if (lastPlayedCityName != null && !lastPlayedCityName.isEmpty()) {
+            city = summaries.stream()
+                    .filter(s -> lastPlayedCityName.equals(s.getCityName()))
+                    .findFirst()
+                    .orElse(null);
         }
 
         // 최근 플레이 기록이 없거나 해당 도시가 삭제된 경우, 첫 번째 도시로 fallback
-        if (cityMap == null) {
-            cityMap = cityMapRepository.findFirstByUser(user).orElse(null);
-        }
-
-        if (cityMap == null) {
-            return null;
+        if (city == null) {
+            city = summaries.stream()
+                    .min(Comparator.comparing(CitySummary::getId))
+                    .orElseThrow();
         }
 
         Map<String, Object> result = new HashMap<>();
         result.put("exists", true);
-        result.put("cityName", cityMap.getCityName());
-        result.put("money", cityMap.getMoney());
-        result.put("population", cityMap.getPopulation());
-        result.put("lastPlayedAt", user.getLastPlayedAt());
+        result.put("cityName", city.getCityName());
+        result.put("money", city.getMoney());
+        result.put("population", city.getPopulation());
+        result.put("lastPlayedAt", city.getLastPlayedAt());
 
         return result;
     }
 
     public CityMap createDefaultMap(User user) {
-        CityMap cityMap = CityMap.createDefault(user);
-        return cityMapRepository.save(cityMap);
+        CityMap cityMap = cityMapRepository.save(CityMap.createDefault(user));
+        cityGridService.createPayload(cityMap, CityMapPayload.defaultGridData());
+        return cityMap;
     }
 
-    public CityMapResponse updateMap(String username, String cityName, CityMapUpdateRequest request, String currentUsername) {
+    /**
+     * @param ifMatch If-Match 헤더 (없으면 null) - 조회 시점 이후 도시가 변경되었으면 CityMapPreconditionFailedException
+     */
+    public CityMapResponse updateMap(String username, String cityName, CityMapUpdateRequest request,
+                                     String currentUsername, String ifMatch) {
         if (!username.equals(currentUsername)) {
             throw new SecurityException("자신의 맵만 수정할 수 있습니다");
         }
@@ -231,23 +327,27 @@ public class CityMapService {
         User user = userRepository.findByUsername(username)
                 .orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다"));
 
-        CityMap cityMap;
+        Long cityMapId;
         if (cityName != null && !cityName.isEmpty()) {
-            cityMap = cityMapRepository.findByUserAndCityName(user, cityName).orElse(null);
+            cityMapId = cityMapRepository.findIdByUserAndCityName(user, cityName).orElse(null);
 
             // "My City"로 요청했는데 없으면, 기본 도시(첫 번째 도시) 반환
-            if (cityMap == null && "My City".equals(cityName)) {
-                cityMap = cityMapRepository.findFirstByUser(user).orElse(null);
+            if (cityMapId == null && "My City".equals(cityName)) {
+                cityMapId = cityMapRepository.findFirstIdByUser(user).orElse(null);
             }
 
-            if (cityMap == null) {
+            if (cityMapId == null) {
                 throw new IllegalArgumentException("도시를 찾을 수 없습니다: " + cityName);
             }
         } else {
-            cityMap = cityMapRepository.findFirstByUser(user)
-                    .orElseGet(() -> createDefaultMap(user));
+            cityMapId = cityMapRepository.findFirstIdByUser(user)
+                    .orElseGet(() -> createDefaultMap(user).getId());
         }
 
+        // 같은 도시에 대한 동시 저장(PUT/PATCH) 방지 - 잠금 후 최신 상태로 If-Match 비교
+        CityMap cityMap = cityMapRepository.findByIdForUpdate(cityMapId)
+                .orElseThrow(() -> new IllegalArgumentException("도시를 찾을 수 없습니다: " + cityName));
+
         // 보안 검증
         GameSecurityService.ValidationResult validationResult =
             gameSecurityService.validateMapUpdate(cityMap, request);
@@ -263,75 +363,190 @@ public class CityMapService {
 
         validateGrid(request.getGrid());
 
-        // 서버에서 돈 계산 (클라이언트 값 사용 안 함)
-        Long serverCalculatedMoney = calculateServerMoney(cityMap, request.getGrid());
-
-        String gridJson = convertGridToJson(request.getGrid());
-
-        // 건물 데이터 JSON 변환
-        String buildingsJson = null;
-        if (request.getBuildings() != null) {
-            try {
-                buildingsJson = objectMapper.writeValueAsString(request.getBuildings());
-            } catch (JsonProcessingException e) {
-                // 건물 데이터 변환 실패 시 무시
-            }
+        CityMapPayload payload = cityGridService.loadPayload(cityMap);
+        if (ifMatch != null && !CityMapETag.matchesState(ifMatch, cityMap, payload.getVersion())) {
+            throw new CityMapPreconditionFailedException("맵이 다른 곳에서 변경되었습니다");
         }
 
-        // 카메라 상태 JSON 변환
-        String cameraStateJson = null;
-        if (request.getCameraState() != null) {
-            try {
-                cameraStateJson = objectMapper.writeValueAsString(request.getCameraState());
-            } catch (JsonProcessingException e) {
-                // 카메라 상태 변환 실패 시 무시
-            }
-        }
+        // 서버에서 돈 계산 (클라이언트 값 사용 안 함)
+        Long serverCalculatedMoney = calculateServerMoney(cityMap, cityGridService.loadGrid(cityMap, payload), request.getGrid());
 
-        // 게임 상태 JSON 변환 (시간/날짜)
-        String gameStateJson = null;
-        if (request.getGameState() != null) {
-            try {
-                gameStateJson = objectMapper.writeValueAsString(request.getGameState());
-            } catch (JsonProcessingException e) {
-                // 게임 상태 변환 실패 시 무시
-            }
-        }
+        // 그리드는 압축 형식으로 저장 (기존 JSON 행은 이 시점에 압축 형식으로 전환됨)
+        String gridData = GridCodec.encode(request.getGrid());
+
+        // 건물/카메라/게임 상태는 요청 역직렬화 시 검증된 JSON 문자열 그대로 저장
+        String buildingsJson = request.getBuildings();
+        String cameraStateJson = request.getCameraState();
+        String gameStateJson = request.getGameState();
 
         // 시간당 세금 계산 및 저장 (오프라인 수익 계산 최적화)
-        int hourlyTaxRate = cityStatsService.calculateHourlyTaxRate(gridJson);
-        cityMap.updateMap(gridJson, serverCalculatedMoney, hourlyTaxRate, buildingsJson, cameraStateJson, gameStateJson);
+        int hourlyTaxRate = cityStatsService.calculateHourlyTaxRate(request.getGrid());
+        long gridVersion = cityMap.updateMap(serverCalculatedMoney, hourlyTaxRate);
+        cityGridService.evictGrid(cityMap);
+        payload.replaceAll(gridData, gridVersion, buildingsJson, cameraStateJson, gameStateJson);
 
         // 명시적으로 저장 (dirty checking 대신)
         cityMapRepository.save(cityMap);
+        publicResponseCache.evictAfterCommit(username, cityMap.getCityName());
+        cityGridService.savePayload(payload);
+
+        // 전체 그리드가 새 스냅샷이 되었으므로 이전 편집 저널은 불필요
+        cityGridService.clearJournal(cityMap);
 
         // 통계는 저장하지 않고 응답용으로만 계산 (DB 쓰기 최소화)
-        CityStatsResponse stats = cityStatsService.calculateStats(cityMap);
+        CityStatsResponse stats = cityStatsService.calculateStats(cityMap, request.getGrid());
 
         return new CityMapResponse(
-            cityMap, true, stats,
+            cityMap, payload, request.getGrid(), true, stats,
             stats.getCongestionMap(),
             stats.getTaxPerHour(),
             0L, 0L
-        );
+        ).withEtag(CityMapETag.of(cityMap, payload.getVersion(), true, 0L, 0L));
+    }
+
+    /**
+     * 셀 단위 저장 (PATCH) - 변경된 셀만 받아 저장된 그리드에 적용
+     *
+     * @throws OptimisticLockingFailureException baseVersion이 현재 그리드 버전과 다른 경우
+     */
+    public CityCellPatchResponse patchCells(String username, String cityName, CityCellPatchRequest request, String currentUsername) {
+        if (!username.equals(currentUsername)) {
+            throw new SecurityException("자신의 맵만 수정할 수 있습니다");
+        }
+
+        // Rate Limiting 체크
+        if (!gameSecurityService.checkRateLimit(username)) {
+            throw new SecurityException("요청이 너무 많습니다. 잠시 후 다시 시도해주세요.");
+        }
+
+        User user = userRepository.findByUsername(username)
+                .orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다"));
+
+        Long cityMapId = cityMapRepository.findIdByUserAndCityName(user, cityName).orElse(null);
+        // "My City"로 요청했는데 없으면, 기본 도시 반환
+        if (cityMapId == null && "My City".equals(cityName)) {
+            cityMapId = cityMapRepository.findFirstIdByUser(user).orElse(null);
+        }
+        if (cityMapId == null) {
+            throw new IllegalArgumentException("도시를 찾을 수 없습니다: " + cityName);
+        }
+
+        // 같은 도시에 대한 동시 저장 방지 (잠금 후 최신 상태로 버전 비교)
+        CityMap cityMap = cityMapRepository.findByIdForUpdate(cityMapId)
+                .orElseThrow(() -> new IllegalArgumentException("도시를 찾을 수 없습니다: " + cityName));
+
+        if (request.getBaseVersion() != cityMap.getGridVersion()) {
+            throw new OptimisticLockingFailureException(
+                "맵이 다른 곳에서 변경되었습니다 (현재 버전: " + cityMap.getGridVersion() + ")");
+        }
+
+        CityMapPayload payload = cityGridService.loadPayload(cityMap);
+        int[][] grid = cityGridService.loadGrid(cityMap, payload);
+        validateCellChanges(grid, request.getChanges());
+
+        // 보안 검증 (변경된 셀만)
+        GameSecurityService.ValidationResult validationResult =
+            gameSecurityService.validateCellChanges(cityMap, grid, request.getChanges());
+        if (!validationResult.isValid()) {
+            throw new SecurityException(validationResult.getMessage());
+        }
+
+        // 변경 적용 + 건설 비용/세금 증감 계산
+        long buildCost = 0;
+        int taxDelta = 0;
+        List<int[]> appliedChanges = new ArrayList<>();
+        for (CityCellPatchRequest.CellChange change : request.getChanges()) {
+            int x = change.getX(), y = change.getY();
+            int oldCode = grid[x][y];
+            int newCode = change.getCode();
+            if (oldCode == newCode) {
+                continue;
+            }
+            CellType oldType = CellType.fromCode(oldCode);
+            CellType newType = CellType.fromCode(newCode);
+            buildCost += newType.getBuildCost();
+            taxDelta += newType.getTaxPerHour() - oldType.getTaxPerHour();
+            grid[x][y] = newCode;
+            appliedChanges.add(new int[]{x, y, newCode});
+        }
+
+        // 서버에서 돈 계산 (클라이언트 값 사용 안 함)
+        long serverCalculatedMoney = Math.max(0, cityMap.getMoney() - buildCost);
+
+        // 시간당 세금: 저장된 값이 없으면 (마이그레이션 이전 행) 전체 계산
+        int hourlyTaxRate = cityMap.getHourlyTaxRate() == 0
+            ? cityStatsService.calculateHourlyTaxRate(grid)
+            : cityMap.getHourlyTaxRate() + taxDelta;
+
+        // 그리드 스냅샷(LONGTEXT)은 다시 쓰지 않고 변경된 셀만 편집 저널에 추가
+        long baseVersion = cityMap.getGridVersion();
+        cityMap.updateMap(serverCalculatedMoney, hourlyTaxRate);
+        cityGridService.evictGrid(cityMap);
+        cityMapRepository.save(cityMap);
+        publicResponseCache.evictAfterCommit(username, cityMap.getCityName());
+        cityGridService.appendJournal(cityMap, appliedChanges);
+
+        // 통계는 이전 버전 모델에 변경된 셀만 반영
+        CityStatsResponse stats = cityStatsService.calculateStatsAfterChanges(cityMap, baseVersion, grid, appliedChanges);
+
+        // 건물/카메라/게임 상태는 전달된 경우에만 갱신
+        String buildingsJson = request.getBuildings();
+        String cameraStateJson = request.getCameraState();
+        String gameStateJson = request.getGameState();
+        if (buildingsJson != null || cameraStateJson != null || gameStateJson != null) {
+            payload.updateClientState(buildingsJson, cameraStateJson, gameStateJson);
+            cityGridService.savePayload(payload);
+        }
+
+        return CityCellPatchResponse.builder()
+                .gridVersion(cityMap.getGridVersion())
+                .money(cityMap.getMoney())
+                .taxPerHour(hourlyTaxRate)
+                .appliedChanges(appliedChanges.size())
+                .population(stats.getPopulation())
+                .happiness(stats.getHappiness())
+                .powerCapacity(stats.getPowerCapacity())
+                .powerUsage(stats.getPowerUsage())
+                .crimeRate(stats.getCrimeRate())
+                .fireRisk(stats.getFireRisk())
+                .trafficLevel(stats.getTrafficLevel())
+                .etag(CityMapETag.of(cityMap, payload.getVersion(), true, 0L, 0L))
+                .build();
+    }
+
+    private void validateCellChanges(int[][] grid, List<CityCellPatchRequest.CellChange> changes) {
+        int width = grid.length;
+        int height = width > 0 ? grid[0].length : 0;
+        boolean[] seen = new boolean[width * height];
+        for (CityCellPatchRequest.CellChange change : changes) {
+            int x = change.getX(), y = change.getY();
+            if (x < 0 || x >= width || y < 0 || y >= height) {
+                throw new IllegalArgumentException("그리드 범위를 벗어난 셀입니다: (" + x + ", " + y + ")");
+            }
+            // 같은 셀이 두 번 오면 비용/세금이 중복 계산되고 저널에도 두 번 기록되므로 거부
+            if (seen[x * height + y]) {
+                throw new IllegalArgumentException("같은 셀이 중복되었습니다: (" + x + ", " + y + ")");
+            }
+            seen[x * height + y] = true;
+            // 하단 외곽 경계는 변경 불가 (LOCKED_ROAD_4LANE = 14)
+            if (y >= height - 2 && change.getCode() != 14) {
+                throw new IllegalArgumentException("외곽 경계는 변경할 수 없습니다");
+            }
+        }
     }
 
     /**
      * 서버에서 돈 계산 (클라이언트 값 신뢰하지 않음)
      */
-    private Long calculateServerMoney(CityMap currentMap, int[][] newGrid) {
+    private Long calculateServerMoney(CityMap currentMap, int[][] oldGrid, int[][] newGrid) {
         Long currentMoney = currentMap.getMoney();
-        int[][] oldGrid = parseGrid(currentMap.getGridData());
 
         // 새로 건설된 건물 비용 차감
         long buildCost = 0;
         for (int x = 0; x < GRID_SIZE; x++) {
             for (int y = 0; y < GRID_SIZE; y++) {
                 if (oldGrid[x][y] != newGrid[x][y]) {
-                    CellType newType = CellType.fromCode(newGrid[x][y]);
-                    if (newType != null && newType.getBuildCost() > 0) {
-                        buildCost += newType.getBuildCost();
-                    }
+                    buildCost += CellTypeTable.BUILD_COST[CellTypeTable.index(newGrid[x][y])];
                 }
             }
         }
@@ -339,14 +554,6 @@ public class CityMapService {
         return Math.max(0, currentMoney - buildCost);
     }
 
-    private int[][] parseGrid(String gridData) {
-        try {
-            return objectMapper.readValue(gridData, int[][].class);
-        } catch (JsonProcessingException e) {
-            return new int[GRID_SIZE][GRID_SIZE];
-        }
-    }
-
     /**
      * 세금 수집
      */
@@ -376,11 +583,14 @@ public class CityMapService {
         long earnings = cityStatsService.calculateOfflineEarnings(cityMap);
         cityMap.collectTax(earnings);
         cityMapRepository.save(cityMap);
+        publicResponseCache.evictAfterCommit(username, cityMap.getCityName());
 
-        CityStatsResponse stats = cityStatsService.calculateStats(cityMap);
+        CityMapPayload payload = cityGridService.loadPayload(cityMap);
+        int[][] grid = cityGridService.loadGrid(cityMap, payload);
+        CityStatsResponse stats = cityStatsService.calculateStats(cityMap, grid);
 
         return new CityMapResponse(
-            cityMap, true, stats,
+            cityMap, payload, grid, true, stats,
             stats.getCongestionMap(),
             stats.getTaxPerHour(),
             0L, 0L
@@ -416,11 +626,14 @@ public class CityMapService {
         long reward = cityStatsService.calculateLoginReward(cityMap.getConsecutiveLoginDays());
         cityMap.setMoney(cityMap.getMoney() + reward);
         cityMapRepository.save(cityMap);
+        publicResponseCache.evictAfterCommit(username, cityMap.getCityName());
 
-        CityStatsResponse stats = cityStatsService.calculateStats(cityMap);
+        CityMapPayload payload = cityGridService.loadPayload(cityMap);
+        int[][] grid = cityGridService.loadGrid(cityMap, payload);
+        CityStatsResponse stats = cityStatsService.calculateStats(cityMap, grid);
 
         return new CityMapResponse(
-            cityMap, true, stats,
+            cityMap, payload, grid, true, stats,
             stats.getCongestionMap(),
             stats.getTaxPerHour(),
             0L, 0L
@@ -450,14 +663,6 @@ public class CityMapService {
         }
     }
 
-    private String convertGridToJson(int[][] grid) {
-        try {
-            return objectMapper.writeValueAsString(grid);
-        } catch (JsonProcessingException e) {
-            throw new RuntimeException("그리드 직렬화 실패", e);
-        }
-    }
-
     public boolean userExists(String username) {
         return userRepository.findByUsername(username).isPresent();
     }
@@ -466,15 +671,13 @@ public class CityMapService {
      * 사용자의 모든 도시 목록 조회 (최근 플레이 순으로 정렬)
      */
     @Transactional(readOnly = true)
-    public List<CityMapResponse> getCitiesByUsername(String username) {
+    public List<CitySummaryResponse> getCitiesByUsername(String username) {
         userRepository.findByUsername(username)
                 .orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다: " + username));
 
-        // 최근 업데이트(플레이) 순으로 정렬하여 조회
-        List<CityMap> cities = cityMapRepository.findByUserUsernameOrderByUpdatedAtDesc(username);
-
-        return cities.stream()
-                .map(city -> new CityMapResponse(city, true))
+        // 최근 업데이트(플레이) 순으로 정렬된 요약 정보만 조회 (그리드/건물 데이터 로딩 없음)
+        return cityMapRepository.findSummariesByUsername(username).stream()
+                .map(CitySummaryResponse::new)
                 .collect(Collectors.toList());
     }
 
@@ -524,12 +727,15 @@ public class CityMapService {
         CityMap cityMap;
         if (gridData != null) {
             // 템플릿 사용하여 생성
-            cityMap = CityMap.createWithGrid(user, cityName, slug, gridData, templateName);
+            cityMap = CityMap.createWithTemplate(user, cityName, slug, templateName);
         } else {
             // 기본 템플릿 사용
             cityMap = CityMap.createDefault(user, cityName, slug);
+            gridData = CityMapPayload.defaultGridData();
         }
-        return cityMapRepository.save(cityMap);
+        cityMap = cityMapRepository.save(cityMap);
+        cityGridService.createPayload(cityMap, gridData);
+        return cityMap;
     }
 
     /**
@@ -552,7 +758,9 @@ public class CityMapService {
             throw new IllegalArgumentException("도시를 찾을 수 없습니다: " + cityName);
         }
 
+        cityGridService.deleteCityData(cityMap);
         cityMapRepository.delete(cityMap);
+        publicResponseCache.evictAfterCommit(username, cityMap.getCityName());
     }
 
     /**
@@ -581,6 +789,7 @@ public class CityMapService {
         }
 
         cityMap.setCityName(newCityName);
+        publicResponseCache.evictAfterCommit(username, oldCityName, newCityName);
         return cityMapRepository.save(cityMap);
     }
 
@@ -651,7 +860,7 @@ public class CityMapService {
             return defaultMapTemplate;
         }
         // 기본 템플릿 (하단 도로만)
-        return CityMap.createDefault(null).getGridData();
+        return CityMapPayload.defaultGridData();
     }
 
     /* =========================================================
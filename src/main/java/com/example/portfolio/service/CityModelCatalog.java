@@ -0,0 +1,170 @@
+package com.example.portfolio.service;
+
+import com.example.portfolio.domain.CellType;
+import com.fasterxml.jackson.databind.JsonNode;
+import org.springframework.web.util.UriUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 도시 데이터(그리드 + buildingsData) -> 렌더링에 쓰이는 모델 파일과 칸 수
+ *
+ * 경로는 static/ 기준이며 city.html의 TILE_MODELS, PUBLIC_BUILDING_MODELS, getCivilBuildingPath와 같아야 한다.
+ */
+final class CityModelCatalog {
+
+    static final String GRASS = "models/tile_for_home_1x1.005.glb";
+    static final List<String> ROAD = List.of(
+            "models/roads/DD.glb",
+            "models/roads/CCC.glb",
+            "models/roads/CCCC.glb",
+            "models/roads/road_tile_1x1_4.glb");
+    static final List<String> ROAD_4LANE = List.of(
+            "models/roads/road_tile_2x2_6_L.glb",
+            "models/roads/road_tile_2x2_4_L.glb",
+            "models/roads/road_tile_2x2_2_L.glb",
+            "models/roads/road_tile_2x2_5.glb",
+            "models/roads/road_tile_2x2_1_L.glb",
+            "models/roads/road_tile_2x2_3_L.glb",
+            "models/roads/road_tile_2x2_3 reversal.glb",
+            "models/roads/road_tile_2x2_7_L.glb",
+            "models/roads/road_tile_2x2_7 reversal.glb");
+    static final String WATER = "models/tile_river_2x2_001.glb";
+    static final String BRIDGE = "models/roads/road_tile_bridge_1x1_3.glb";
+    // 해변/바다/방파제 - 템플릿 지형이라 그리드 코드로 구분되지 않으므로 항상 포함
+    static final List<String> TERRAIN = List.of(
+            "models/beach_tile_1x1_7.glb",
+            "models/beach_tile_1x1_007.glb",
+            "models/water.glb",
+            "models/road_tile_river_2x2_008.glb");
+    static final List<String> TREES = List.of(
+            "models/trees.010.glb",
+            "models/trees.011.glb");
+
+    static final Map<String, List<String>> PUBLIC_BUILDINGS = Map.of(
+            "school", List.of("models/school/Group 7.glb"),
+            "police", List.of("models/PoliceStations/Group 5.glb"),
+            "fire", List.of("models/FireStation/Group 6.glb"),
+            // 공원은 배치 시 변형이 무작위로 정해지고 저장되지 않으므로 전부 포함
+            "park", List.of(
+                    "models/Park/2x2/Group.glb",
+                    "models/Park/2x2/Group 1.glb",
+                    "models/Park/2x2/Group 2.glb",
+                    "models/Park/2x2/Group 3.glb",
+                    "models/Park/2x2/Group 4.glb"),
+            "hospital", List.of("models/Hospital/Hospital 2x2.glb"),
+            "powerplant_coal", List.of("models/school/Group 7.glb"),
+            "powerplant_wind", List.of("models/turbin1.glb"),
+            "powerplant_solar", List.of("models/solar_panel2.glb"),
+            "wastewater", List.of("models/wasted_water.glb"),
+            "water_pump_coast", List.of("models/water_pump.glb"));
+    static final Map<String, String> EXPANSIONS = Map.of(
+            "powerplant_wind", "models/turbin_module.glb",
+            "powerplant_solar", "models/solarpanel_addon.glb");
+
+    private CityModelCatalog() {
+    }
+
+    /**
+     * 모델 경로 -> 그 모델로 그려지는 칸 수 (모델 종류가 정해지지 않는 도로 세트는 세트 전체에 같은 칸 수)
+     *
+     * @param buildings buildingsData JSON (없으면 null)
+     */
+    static Map<String, Integer> collect(int[][] grid, JsonNode buildings) {
+        Map<String, Integer> footprints = new LinkedHashMap<>();
+
+        int grass = 0, road = 0, road4Lane = 0, water = 0, bridge = 0;
+        for (int[] column : grid) {
+            for (int cell : column) {
+                switch (CellType.fromCode(cell)) {
+                    case EMPTY, ZONE_RESIDENTIAL, ZONE_COMMERCIAL, ZONE_INDUSTRIAL -> grass++;
+                    case ROAD, LOCKED_ROAD -> road++;
+                    case ROAD_4LANE, LOCKED_ROAD_4LANE -> road4Lane++;
+                    case WATER -> water++;
+                    case BRIDGE -> bridge++;
+                    default -> {
+                    }
+                }
+            }
+        }
+        add(footprints, GRASS, grass);
+        for (String path : ROAD) {
+            add(footprints, path, road);
+        }
+        for (String path : ROAD_4LANE) {
+            add(footprints, path, road4Lane);
+        }
+        add(footprints, WATER, water);
+        add(footprints, BRIDGE, bridge);
+        for (String path : TERRAIN) {
+            add(footprints, path, 1);
+        }
+
+        if (buildings == null) {
+            return footprints;
+        }
+        for (JsonNode building : buildings.path("civilBuildings")) {
+            String path = civilBuildingPath(building.path("prefabName").asText(null));
+            add(footprints, path, area(building, 1, 1));
+        }
+        for (JsonNode building : buildings.path("publicBuildings")) {
+            String type = building.path("type").asText("");
+            int area = area(building, 2, 2);
+            for (String path : PUBLIC_BUILDINGS.getOrDefault(type, List.of())) {
+                add(footprints, path, area);
+            }
+            String expansion = EXPANSIONS.get(type);
+            for (JsonNode slot : building.path("expansions")) {
+                add(footprints, expansion, area(slot, 3, 1));
+            }
+        }
+        for (JsonNode tree : buildings.path("trees")) {
+            int index = tree.path("modelIndex").asInt(-1);
+            if (index >= 0 && index < TREES.size()) {
+                add(footprints, TREES.get(index), 1);
+            }
+        }
+        return footprints;
+    }
+
+    /**
+     * 민간 건물 prefab 이름({zoneType}_{tier}_{size}_{URL 인코딩된 모델명}) -> 모델 경로 (형식이 다르면 null)
+     */
+    static String civilBuildingPath(String prefabName) {
+        if (prefabName == null) {
+            return null;
+        }
+        String[] parts = prefabName.split("_", 4);
+        if (parts.length < 4) {
+            return null;
+        }
+        String zoneFolder = switch (parts[0]) {
+            case "residential" -> "resident";
+            case "commercial" -> "commerical";
+            default -> null;
+        };
+        String tierFolder = switch (parts[1]) {
+            case "0" -> "middle";
+            case "1" -> "high";
+            default -> null;
+        };
+        if (zoneFolder == null || tierFolder == null || !(parts[2].equals("1x1") || parts[2].equals("2x2"))) {
+            return null;
+        }
+        return "models/civil buildlings/" + zoneFolder + " " + tierFolder + "/" + parts[2] + "/"
+                + UriUtils.decode(parts[3], StandardCharsets.UTF_8) + ".glb";
+    }
+
+    private static int area(JsonNode node, int defaultWidth, int defaultDepth) {
+        return Math.max(1, node.path("width").asInt(defaultWidth)) * Math.max(1, node.path("depth").asInt(defaultDepth));
+    }
+
+    private static void add(Map<String, Integer> footprints, String path, int count) {
+        if (path != null && count > 0) {
+            footprints.merge(path, count, Integer::sum);
+        }
+    }
+}
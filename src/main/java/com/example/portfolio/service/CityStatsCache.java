@@ -0,0 +1,128 @@
+package com.example.portfolio.service;
+
+import com.example.portfolio.dto.CityStatsResponse;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.lang.management.ManagementFactory;
+import java.time.Duration;
+import java.util.function.Supplier;
+
+/**
+ * 도시 통계 계산 결과 캐시 (그리드 내용 해시 + 기본 행복도 기준)
+ *
+ * 통계는 그리드와 CityMap.happiness에만 의존하므로, 같은 그리드를 다시 조회하면
+ * 해시 계산 한 번으로 결과를 재사용한다. 도시 id를 키에 넣지 않으므로 같은 템플릿의 빈 도시들도 공유된다.
+ * 해시 충돌을 사실상 배제하기 위해 서로 다른 두 64비트 해시를 함께 키로 사용한다.
+ * 캐시 미스로 실제 계산할 때는 소요 시간과 계산 스레드의 할당 바이트를 메트릭으로 기록한다.
+ */
+@Component
+public class CityStatsCache {
+
+    private final Cache<StatsKey, CityStatsResponse> cache;
+    private final Cache<Long, VersionedModel> models;  // 셀 단위 저장용 통계 모델 (cityId 기준)
+    private final Timer calculationTimer;
+    private final DistributionSummary allocatedBytes;
+    private final com.sun.management.ThreadMXBean threadBean;  // 스레드별 할당량 측정을 지원하지 않으면 null
+
+    public CityStatsCache(MeterRegistry meterRegistry,
+                          @Value("${city.stats-cache.max-size:2000}") long maxSize,
+                          @Value("${city.stats-cache.expire-after-write-minutes:60}") long expireMinutes,
+                          @Value("${city.stats-cache.max-models:200}") long maxModels) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(Duration.ofMinutes(expireMinutes))
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "city.stats");
+
+        this.models = Caffeine.newBuilder()
+                .maximumSize(maxModels)
+                .expireAfterAccess(Duration.ofMinutes(expireMinutes))
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, models, "city.stats.model");
+
+        this.calculationTimer = Timer.builder("city.stats.calculation")
+                .description("캐시 미스 시 통계 계산 시간")
+                .register(meterRegistry);
+        this.allocatedBytes = DistributionSummary.builder("city.stats.calculation.allocated")
+                .description("통계 계산 1회당 힙 할당량")
+                .baseUnit("bytes")
+                .register(meterRegistry);
+        this.threadBean = allocationBean();
+    }
+
+    public CityStatsResponse get(int[][] grid, int baseHappiness, Supplier<CityStatsResponse> calculator) {
+        return cache.get(keyOf(grid, baseHappiness), key -> measure(calculator));
+    }
+
+    public void put(int[][] grid, int baseHappiness, CityStatsResponse stats) {
+        cache.put(keyOf(grid, baseHappiness), stats);
+    }
+
+    /**
+     * 통계 모델을 캐시에서 꺼냄 (버전이 다르면 null) - 모델은 변경 가능하므로 사용 중에는 캐시에서 제거해 둔다
+     */
+    public IncrementalCityStats takeModel(Long cityMapId, long gridVersion) {
+        VersionedModel entry = models.asMap().remove(cityMapId);
+        return entry != null && entry.gridVersion() == gridVersion ? entry.model() : null;
+    }
+
+    public void putModel(Long cityMapId, long gridVersion, IncrementalCityStats model) {
+        models.put(cityMapId, new VersionedModel(gridVersion, model));
+    }
+
+    private CityStatsResponse measure(Supplier<CityStatsResponse> calculator) {
+        long threadId = Thread.currentThread().getId();
+        long allocatedBefore = threadBean != null ? threadBean.getThreadAllocatedBytes(threadId) : -1;
+        CityStatsResponse stats = calculationTimer.record(calculator);
+        if (allocatedBefore >= 0) {
+            long allocatedAfter = threadBean.getThreadAllocatedBytes(threadId);
+            if (allocatedAfter >= allocatedBefore) {
+                allocatedBytes.record(allocatedAfter - allocatedBefore);
+            }
+        }
+        return stats;
+    }
+
+    private static com.sun.management.ThreadMXBean allocationBean() {
+        if (ManagementFactory.getThreadMXBean() instanceof com.sun.management.ThreadMXBean bean
+                && bean.isThreadAllocatedMemorySupported() && bean.isThreadAllocatedMemoryEnabled()) {
+            return bean;
+        }
+        return null;
+    }
+
+    static StatsKey keyOf(int[][] grid, int baseHappiness) {
+        long h1 = 0x9E3779B97F4A7C15L;
+        long h2 = grid.length;
+        for (int[] column : grid) {
+            h1 = h1 * 31 + column.length;
+            for (int cell : column) {
+                h1 = h1 * 0x100000001B3L + cell;
+                h2 = mix(h2 ^ cell);
+            }
+        }
+        return new StatsKey(h1, h2, baseHappiness);
+    }
+
+    private static long mix(long z) {
+        z = (z + 0x9E3779B97F4A7C15L);
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+
+    record StatsKey(long hash1, long hash2, int baseHappiness) {
+    }
+
+    private record VersionedModel(long gridVersion, IncrementalCityStats model) {
+    }
+}
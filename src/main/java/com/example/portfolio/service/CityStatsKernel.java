@@ -0,0 +1,211 @@
+package com.example.portfolio.service;
+
+import com.example.portfolio.domain.CellType;
+import com.example.portfolio.dto.CityStatsResponse;
+
+import java.util.Arrays;
+
+import static com.example.portfolio.service.CellTypeTable.*;
+
+/**
+ * 도시 통계 계산 커널
+ *
+ * 그리드를 셀 코드 인덱스의 1차원 배열로 펼친 뒤 CellTypeTable의 primitive 배열만으로 계산한다.
+ * 커버리지 비트셋, 누적합 배열 등 중간 버퍼는 스레드별로 재사용하므로,
+ * 호출마다 새로 할당되는 것은 결과 객체(CityStatsResponse, 혼잡도 맵)뿐이다.
+ */
+final class CityStatsKernel {
+
+    private static final ThreadLocal<Scratch> SCRATCH = ThreadLocal.withInitial(Scratch::new);
+
+    private static final int POLICE_RADIUS = RADIUS[CellType.POLICE_STATION.getCode()];
+    private static final int FIRE_RADIUS = RADIUS[CellType.FIRE_STATION.getCode()];
+
+    private CityStatsKernel() {
+    }
+
+    /**
+     * @param congestionWeights 셀 코드 기준 혼잡도 가중치 (CongestionProperties.weightTable())
+     */
+    static CityStatsResponse calculate(int[][] grid, int baseHappiness, int congestionRadius, int[] congestionWeights) {
+        int width = grid.length;
+        int height = width > 0 ? grid[0].length : 0;
+        Scratch scratch = SCRATCH.get();
+        int[] cells = scratch.cells(width * height);
+
+        CoverageBitset policeCoverage = scratch.policeCoverage;
+        CoverageBitset fireCoverage = scratch.fireCoverage;
+        CoverageBitset residentialMask = scratch.residentialMask;
+        policeCoverage.reset(width, height);
+        fireCoverage.reset(width, height);
+        residentialMask.reset(width, height);
+
+        int totalPopulation = 0;
+        int totalPowerCapacity = 0;
+        int totalPowerUsage = 0;
+        int totalTaxPerHour = 0;
+        int totalTrafficImpact = 0;
+        int roadCount = 0;
+        int residentialCount = 0;
+        int commercialCount = 0;
+        int industrialCount = 0;
+        int parkCount = 0;
+
+        // 1차 스캔: 기본 통계 + 커버리지
+        for (int x = 0, i = 0; x < width; x++) {
+            int[] column = grid[x];
+            for (int y = 0; y < height; y++, i++) {
+                int c = index(column[y]);
+                cells[i] = c;
+                int flags = FLAGS[c];
+
+                if ((flags & ROAD) != 0) {
+                    roadCount++;
+                    continue;
+                }
+
+                totalPopulation += POPULATION[c];
+                totalPowerCapacity += POWER_PRODUCTION[c];
+                totalPowerUsage += POWER_CONSUMPTION[c];
+                totalTaxPerHour += TAX[c];
+                totalTrafficImpact += TRAFFIC[c];
+
+                if (flags == 0) {
+                    continue;
+                }
+                if ((flags & RESIDENTIAL) != 0) {
+                    residentialCount++;
+                    residentialMask.set(x, y);
+                } else if ((flags & COMMERCIAL) != 0) {
+                    commercialCount++;
+                } else if ((flags & INDUSTRIAL) != 0) {
+                    industrialCount++;
+                } else if ((flags & POLICE) != 0) {
+                    policeCoverage.setDisk(x, y, POLICE_RADIUS);
+                } else if ((flags & FIRE) != 0) {
+                    fireCoverage.setDisk(x, y, FIRE_RADIUS);
+                } else if ((flags & PARK) != 0) {
+                    parkCount++;
+                }
+            }
+        }
+
+        // 치안율 / 화재 위험도 (커버리지 AND 주거 마스크의 비트 수)
+        int coveredByPolice = policeCoverage.countAnd(residentialMask);
+        int crimeRate = residentialCount > 0
+            ? 100 - (coveredByPolice * 100 / Math.max(1, residentialCount))
+            : 0;
+        int coveredByFire = fireCoverage.countAnd(residentialMask);
+        int fireRisk = residentialCount > 0
+            ? 100 - (coveredByFire * 100 / Math.max(1, residentialCount))
+            : 0;
+
+        // 교통량 (도로 대비 건물 비율)
+        int buildingCount = residentialCount + commercialCount + industrialCount;
+        int trafficLevel = roadCount > 0
+            ? Math.min(100, (buildingCount * 100) / (roadCount * 2) + totalTrafficImpact)
+            : 0;
+
+        int happiness = CityStatsService.calculateHappiness(
+            baseHappiness, crimeRate, fireRisk, trafficLevel, parkCount, totalPowerCapacity >= totalPowerUsage);
+
+        int[][] congestionMap = calculateCongestionMap(scratch, cells, width, height,
+            roadCount, buildingCount, congestionRadius, congestionWeights);
+
+        return CityStatsResponse.builder()
+                .population(totalPopulation)
+                .happiness(happiness)
+                .powerCapacity(totalPowerCapacity)
+                .powerUsage(totalPowerUsage)
+                .crimeRate(crimeRate)
+                .fireRisk(fireRisk)
+                .trafficLevel(trafficLevel)
+                .taxPerHour(totalTaxPerHour)
+                .roadCount(roadCount)
+                .residentialCount(residentialCount)
+                .commercialCount(commercialCount)
+                .industrialCount(industrialCount)
+                .congestionMap(congestionMap)
+                .build();
+    }
+
+    /**
+     * 시간당 세금 합계
+     */
+    static int sumTax(int[][] grid) {
+        int total = 0;
+        for (int[] column : grid) {
+            for (int cell : column) {
+                total += TAX[index(cell)];
+            }
+        }
+        return total;
+    }
+
+    /**
+     * 도로 혼잡도 맵 - 셀 가중치의 2차원 누적합(summed-area table)으로 각 도로 칸의 주변 합을 O(1)에 계산
+     */
+    private static int[][] calculateCongestionMap(Scratch scratch, int[] cells, int width, int height,
+                                                  int roadCount, int buildingCount,
+                                                  int radius, int[] weights) {
+        int[][] congestion = new int[width][height];
+        if (roadCount == 0) return congestion;
+
+        // 기본 혼잡도
+        int baseCongestion = Math.min(100, (buildingCount * 50) / roadCount);
+
+        // sums[(x + 1) * stride + (y + 1)] = (0,0) ~ (x,y) 영역 가중치 합
+        int stride = height + 1;
+        int[] sums = scratch.sums((width + 1) * stride);
+        for (int x = 0, i = 0; x < width; x++) {
+            int rowSum = 0;
+            int prev = x * stride;
+            int cur = prev + stride;
+            for (int y = 0; y < height; y++, i++) {
+                int c = cells[i];
+                rowSum += c < weights.length ? weights[c] : 0;
+                sums[cur + y + 1] = sums[prev + y + 1] + rowSum;
+            }
+        }
+
+        for (int x = 0, i = 0; x < width; x++) {
+            int x0 = Math.max(0, x - radius) * stride, x1 = Math.min(width, x + radius + 1) * stride;
+            int[] column = congestion[x];
+            for (int y = 0; y < height; y++, i++) {
+                if ((FLAGS[cells[i]] & ROAD) == 0) continue;
+                int y0 = Math.max(0, y - radius), y1 = Math.min(height, y + radius + 1);
+                int nearby = sums[x1 + y1] - sums[x0 + y1] - sums[x1 + y0] + sums[x0 + y0];
+                column[y] = Math.min(100, baseCongestion + nearby);
+            }
+        }
+        return congestion;
+    }
+
+    /**
+     * 스레드별 재사용 버퍼 (필요한 크기보다 작을 때만 다시 할당)
+     */
+    private static final class Scratch {
+        private int[] cells = new int[0];
+        private int[] sums = new int[0];
+        private final CoverageBitset policeCoverage = new CoverageBitset();
+        private final CoverageBitset fireCoverage = new CoverageBitset();
+        private final CoverageBitset residentialMask = new CoverageBitset();
+
+        int[] cells(int size) {
+            if (cells.length < size) {
+                cells = new int[size];
+            }
+            return cells;
+        }
+
+        // 누적합 배열은 0행/0열이 0이어야 하므로 사용 범위를 초기화해서 반환
+        int[] sums(int size) {
+            if (sums.length < size) {
+                sums = new int[size];
+            } else {
+                Arrays.fill(sums, 0, size, 0);
+            }
+            return sums;
+        }
+    }
+}
@@ -1,23 +1,25 @@
 package com.example.portfolio.service;
 
-import com.example.portfolio.domain.CellType;
+import com.example.portfolio.config.CongestionProperties;
 import com.example.portfolio.domain.CityMap;
+import com.example.portfolio.domain.GridCodec;
 import com.example.portfolio.dto.CityStatsResponse;
-import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import java.time.Duration;
 import java.time.LocalDateTime;
-import java.util.ArrayList;
 import java.util.List;
 
 @Service
 @RequiredArgsConstructor
 public class CityStatsService {
 
-    private final ObjectMapper objectMapper;
+    private final CityGridService cityGridService;
+    private final CityStatsCache cityStatsCache;
+    private final CongestionProperties congestionProperties;
     private static final int GRID_SIZE = 70;
     private static final int MAX_OFFLINE_HOURS = 24;
 
@@ -25,135 +27,71 @@ public class CityStatsService {
      * 그리드 데이터를 분석하여 도시 통계 계산
      */
     public CityStatsResponse calculateStats(CityMap cityMap) {
-        int[][] grid = parseGrid(cityMap.getGridData());
-
-        // 건물별 개수 및 위치
-        List<int[]> powerPlants = new ArrayList<>();
-        List<int[]> policeStations = new ArrayList<>();
-        List<int[]> fireStations = new ArrayList<>();
-        List<int[]> parks = new ArrayList<>();
-        List<int[]> schools = new ArrayList<>();
-        List<int[]> hospitals = new ArrayList<>();
-
-        int totalPopulation = 0;
-        int totalPowerCapacity = 0;
-        int totalPowerUsage = 0;
-        int totalTaxPerHour = 0;
-        int totalTrafficImpact = 0;
-        int roadCount = 0;
-        int residentialCount = 0;
-        int commercialCount = 0;
-        int industrialCount = 0;
-
-        // 1차 스캔: 건물 위치 및 기본 통계
-        for (int x = 0; x < GRID_SIZE; x++) {
-            for (int y = 0; y < GRID_SIZE; y++) {
-                CellType type = CellType.fromCode(grid[x][y]);
-
-                if (type.isRoad()) {
-                    roadCount++;
-                    continue;
-                }
+        return calculateStats(cityMap, cityGridService.loadGrid(cityMap));
+    }
 
-                // 인구
-                totalPopulation += type.getPopulationBonus();
+    /**
+     * 이미 조회한 그리드로 도시 통계 계산 (그리드 중복 조회 방지)
+     * 같은 그리드 + 행복도의 결과는 CityStatsCache에서 재사용
+     */
+    public CityStatsResponse calculateStats(CityMap cityMap, int[][] grid) {
+        int baseHappiness = cityMap.getHappiness();
+        return cityStatsCache.get(grid, baseHappiness, () -> calculateStats(grid, baseHappiness));
+    }
 
-                // 전력
-                if (type.producesPower()) {
-                    totalPowerCapacity += type.getPowerProduction();
-                } else {
-                    totalPowerUsage += type.getPowerConsumption();
-                }
+    /**
+     * 그리드 전체를 스캔하여 통계 계산 (캐시 없이, CityStatsKernel 사용)
+     */
+    public CityStatsResponse calculateStats(int[][] grid, int baseHappiness) {
+        return CityStatsKernel.calculate(grid, baseHappiness,
+                congestionProperties.getRadius(), congestionProperties.weightTable());
+    }
 
-                // 세금
-                totalTaxPerHour += type.getTaxPerHour();
-
-                // 교통량
-                totalTrafficImpact += type.getTrafficImpact();
-
-                // 건물 위치 저장
-                switch (type) {
-                    case POWER_PLANT, LARGE_POWER_PLANT -> powerPlants.add(new int[]{x, y});
-                    case POLICE_STATION -> policeStations.add(new int[]{x, y});
-                    case FIRE_STATION -> fireStations.add(new int[]{x, y});
-                    case PARK -> parks.add(new int[]{x, y});
-                    case SCHOOL -> schools.add(new int[]{x, y});
-                    case HOSPITAL -> hospitals.add(new int[]{x, y});
-                    case RESIDENTIAL_LOW, RESIDENTIAL_MID, RESIDENTIAL_HIGH -> residentialCount++;
-                    case COMMERCIAL -> commercialCount++;
-                    case INDUSTRIAL -> industrialCount++;
-                    default -> {}
-                }
-            }
+    /**
+     * 셀 단위 저장 후 통계 계산 - 이전 버전의 통계 모델이 있으면 변경된 셀만 반영
+     * (cityMap은 updateMap으로 버전이 올라간 상태, newGrid는 변경이 적용된 그리드)
+     *
+     * @param changes {x, y, code} 배열 목록
+     */
+    public CityStatsResponse calculateStatsAfterChanges(CityMap cityMap, long baseVersion,
+                                                        int[][] newGrid, List<int[]> changes) {
+        IncrementalCityStats model = cityStatsCache.takeModel(cityMap.getId(), baseVersion);
+        if (model != null) {
+            model.applyChanges(changes);
+        } else {
+            model = IncrementalCityStats.fromGrid(newGrid, congestionProperties);
         }
 
-        // 2차 계산: 커버리지 기반 통계
-        boolean[][] policeCoverage = calculateCoverage(policeStations, CellType.POLICE_STATION.getEffectRadius());
-        boolean[][] fireCoverage = calculateCoverage(fireStations, CellType.FIRE_STATION.getEffectRadius());
-        boolean[][] powerCoverage = calculateCoverage(powerPlants, CellType.POWER_PLANT.getEffectRadius());
-
-        // 치안율 (경찰서 커버리지 기반)
-        int coveredByPolice = countCoveredResidential(grid, policeCoverage);
-        int crimeRate = residentialCount > 0
-            ? 100 - (coveredByPolice * 100 / Math.max(1, residentialCount))
-            : 0;
-
-        // 화재 위험도 (소방서 커버리지 기반)
-        int coveredByFire = countCoveredResidential(grid, fireCoverage);
-        int fireRisk = residentialCount > 0
-            ? 100 - (coveredByFire * 100 / Math.max(1, residentialCount))
-            : 0;
-
-        // 교통량 (도로 대비 건물 비율)
-        int buildingCount = residentialCount + commercialCount + industrialCount;
-        int trafficLevel = roadCount > 0
-            ? Math.min(100, (buildingCount * 100) / (roadCount * 2) + totalTrafficImpact)
-            : 0;
-
-        // 행복도 계산
-        int happiness = calculateHappiness(
-            cityMap.getHappiness(),
-            crimeRate,
-            fireRisk,
-            trafficLevel,
-            parks.size(),
-            totalPowerCapacity >= totalPowerUsage
-        );
-
-        // 도로 혼잡도 맵 생성 (시각화용)
-        int[][] congestionMap = calculateCongestionMap(grid, roadCount, buildingCount);
-
-        return CityStatsResponse.builder()
-                .population(totalPopulation)
-                .happiness(happiness)
-                .powerCapacity(totalPowerCapacity)
-                .powerUsage(totalPowerUsage)
-                .crimeRate(crimeRate)
-                .fireRisk(fireRisk)
-                .trafficLevel(trafficLevel)
-                .taxPerHour(totalTaxPerHour)
-                .roadCount(roadCount)
-                .residentialCount(residentialCount)
-                .commercialCount(commercialCount)
-                .industrialCount(industrialCount)
-                .congestionMap(congestionMap)
-                .build();
+        // 다음 조회 시 전체 재계산 없이 사용되도록 결과 캐시에도 저장
+        CityStatsResponse stats = model.toResponse(cityMap.getHappiness());
+        cityStatsCache.put(newGrid, cityMap.getHappiness(), stats);
+
+        // 모델은 새 버전이 커밋된 경우에만 보관 (롤백된 버전 번호가 재사용될 수 있음)
+        Long cityMapId = cityMap.getId();
+        long newVersion = cityMap.getGridVersion();
+        IncrementalCityStats updated = model;
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    cityStatsCache.putModel(cityMapId, newVersion, updated);
+                }
+            });
+        } else {
+            cityStatsCache.putModel(cityMapId, newVersion, updated);
+        }
+        return stats;
     }
 
     /**
      * 그리드에서 시간당 세금만 빠르게 계산 (맵 저장 시 사용)
      */
     public int calculateHourlyTaxRate(String gridData) {
-        int[][] grid = parseGrid(gridData);
-        int totalTaxPerHour = 0;
+        return calculateHourlyTaxRate(parseGrid(gridData));
+    }
 
-        for (int x = 0; x < GRID_SIZE; x++) {
-            for (int y = 0; y < GRID_SIZE; y++) {
-                CellType type = CellType.fromCode(grid[x][y]);
-                totalTaxPerHour += type.getTaxPerHour();
-            }
-        }
-        return totalTaxPerHour;
+    public int calculateHourlyTaxRate(int[][] grid) {
+        return CityStatsKernel.sumTax(grid);
     }
 
     /**
@@ -176,7 +114,7 @@ public class CityStatsService {
 
         // hourlyTaxRate가 0이면 기존 방식으로 계산 (마이그레이션 호환)
         if (hourlyTaxRate == 0) {
-            hourlyTaxRate = calculateHourlyTaxRate(cityMap.getGridData());
+            hourlyTaxRate = calculateHourlyTaxRate(cityGridService.loadGrid(cityMap));
         }
 
         // 기본 세금 수입
@@ -219,46 +157,10 @@ public class CityStatsService {
     // === Private Helper Methods ===
 
     private int[][] parseGrid(String gridData) {
-        try {
-            return objectMapper.readValue(gridData, int[][].class);
-        } catch (JsonProcessingException e) {
-            return new int[GRID_SIZE][GRID_SIZE];
-        }
-    }
-
-    private boolean[][] calculateCoverage(List<int[]> buildings, int radius) {
-        boolean[][] coverage = new boolean[GRID_SIZE][GRID_SIZE];
-
-        for (int[] pos : buildings) {
-            int cx = pos[0], cy = pos[1];
-            for (int dx = -radius; dx <= radius; dx++) {
-                for (int dy = -radius; dy <= radius; dy++) {
-                    int nx = cx + dx, ny = cy + dy;
-                    if (nx >= 0 && nx < GRID_SIZE && ny >= 0 && ny < GRID_SIZE) {
-                        if (dx * dx + dy * dy <= radius * radius) {
-                            coverage[nx][ny] = true;
-                        }
-                    }
-                }
-            }
-        }
-        return coverage;
+        return GridCodec.decodeOrEmpty(gridData, GRID_SIZE);
     }
 
-    private int countCoveredResidential(int[][] grid, boolean[][] coverage) {
-        int count = 0;
-        for (int x = 0; x < GRID_SIZE; x++) {
-            for (int y = 0; y < GRID_SIZE; y++) {
-                CellType type = CellType.fromCode(grid[x][y]);
-                if (type.isResidential() && coverage[x][y]) {
-                    count++;
-                }
-            }
-        }
-        return count;
-    }
-
-    private int calculateHappiness(int baseHappiness, int crimeRate, int fireRisk,
+    static int calculateHappiness(int baseHappiness, int crimeRate, int fireRisk,
                                    int trafficLevel, int parkCount, boolean hasPower) {
         int happiness = baseHappiness;
 
@@ -281,42 +183,4 @@ public class CityStatsService {
 
         return Math.max(0, Math.min(100, happiness));
     }
-
-    private int[][] calculateCongestionMap(int[][] grid, int roadCount, int buildingCount) {
-        int[][] congestion = new int[GRID_SIZE][GRID_SIZE];
-
-        if (roadCount == 0) return congestion;
-
-        // 기본 혼잡도
-        int baseCongestion = Math.min(100, (buildingCount * 50) / roadCount);
-
-        for (int x = 0; x < GRID_SIZE; x++) {
-            for (int y = 0; y < GRID_SIZE; y++) {
-                CellType type = CellType.fromCode(grid[x][y]);
-                if (type.isRoad()) {
-                    // 주변 건물 수에 따른 혼잡도
-                    int nearbyBuildings = countNearbyBuildings(grid, x, y, 3);
-                    int localCongestion = baseCongestion + nearbyBuildings * 5;
-                    congestion[x][y] = Math.min(100, localCongestion);
-                }
-            }
-        }
-        return congestion;
-    }
-
-    private int countNearbyBuildings(int[][] grid, int cx, int cy, int radius) {
-        int count = 0;
-        for (int dx = -radius; dx <= radius; dx++) {
-            for (int dy = -radius; dy <= radius; dy++) {
-                int nx = cx + dx, ny = cy + dy;
-                if (nx >= 0 && nx < GRID_SIZE && ny >= 0 && ny < GRID_SIZE) {
-                    CellType type = CellType.fromCode(grid[nx][ny]);
-                    if (type.isResidential() || type == CellType.COMMERCIAL || type == CellType.INDUSTRIAL) {
-                        count++;
-                    }
-                }
-            }
-        }
-        return count;
-    }
 }
@@ -0,0 +1,116 @@
+package com.example.portfolio.service;
+
+import java.util.Arrays;
+
+/**
+ * 그리드 크기의 비트셋 (x 행마다 y 방향 비트를 long[] 워드로 저장)
+ *
+ * 시설 커버리지는 반경별로 미리 계산한 원형 스텐실(행마다 [cy-h, cy+h] 구간)을 워드 단위 마스크로 OR하고,
+ * 커버된 주거 수는 주거 마스크와 AND한 뒤 bitCount로 센다.
+ */
+final class CoverageBitset {
+
+    private static final int MAX_CACHED_RADIUS = 64;
+    private static final int[][] HALF_WIDTHS = new int[MAX_CACHED_RADIUS + 1][];
+
+    static {
+        for (int radius = 0; radius <= MAX_CACHED_RADIUS; radius++) {
+            HALF_WIDTHS[radius] = computeHalfWidths(radius);
+        }
+    }
+
+    private int width;
+    private int height;
+    private int wordsPerRow;
+    private long[] words = new long[0];
+    private int wordCount;
+
+    CoverageBitset() {
+    }
+
+    CoverageBitset(int width, int height) {
+        reset(width, height);
+    }
+
+    /**
+     * 크기를 지정하고 모든 비트를 지움 (기존 배열이 충분히 크면 재사용)
+     */
+    void reset(int width, int height) {
+        this.width = width;
+        this.height = height;
+        this.wordsPerRow = (height + 63) >>> 6;
+        this.wordCount = width * wordsPerRow;
+        if (words.length < wordCount) {
+            words = new long[wordCount];
+        } else {
+            Arrays.fill(words, 0, wordCount, 0L);
+        }
+    }
+
+    void set(int x, int y) {
+        words[x * wordsPerRow + (y >>> 6)] |= 1L << y;
+    }
+
+    /**
+     * (cx, cy) 중심 반경 radius 원 (dx^2 + dy^2 <= r^2) 안의 칸을 모두 설정
+     */
+    void setDisk(int cx, int cy, int radius) {
+        int[] halfWidths = halfWidths(radius);
+        int minDx = Math.max(-radius, -cx);
+        int maxDx = Math.min(radius, width - 1 - cx);
+        for (int dx = minDx; dx <= maxDx; dx++) {
+            int h = halfWidths[Math.abs(dx)];
+            setSpan(cx + dx, Math.max(0, cy - h), Math.min(height - 1, cy + h));
+        }
+    }
+
+    /**
+     * 두 비트셋의 공통 비트 수
+     */
+    int countAnd(CoverageBitset other) {
+        int count = 0;
+        for (int i = 0; i < wordCount; i++) {
+            count += Long.bitCount(words[i] & other.words[i]);
+        }
+        return count;
+    }
+
+    private void setSpan(int x, int fromY, int toY) {
+        if (fromY > toY) {
+            return;
+        }
+        int base = x * wordsPerRow;
+        int fromWord = fromY >>> 6;
+        int toWord = toY >>> 6;
+        long firstMask = -1L << fromY;            // fromY 이상 (시프트는 하위 6비트만 사용)
+        long lastMask = -1L >>> (63 - (toY & 63)); // toY 이하
+        if (fromWord == toWord) {
+            words[base + fromWord] |= firstMask & lastMask;
+            return;
+        }
+        words[base + fromWord] |= firstMask;
+        for (int w = fromWord + 1; w < toWord; w++) {
+            words[base + w] = -1L;
+        }
+        words[base + toWord] |= lastMask;
+    }
+
+    /**
+     * 반경별 스텐실: halfWidths[|dx|] = dx^2 + dy^2 <= r^2 를 만족하는 최대 |dy|
+     */
+    static int[] halfWidths(int radius) {
+        return radius <= MAX_CACHED_RADIUS ? HALF_WIDTHS[radius] : computeHalfWidths(radius);
+    }
+
+    private static int[] computeHalfWidths(int radius) {
+        int[] halfWidths = new int[radius + 1];
+        int h = radius;
+        for (int dx = 0; dx <= radius; dx++) {
+            while (dx * dx + h * h > radius * radius) {
+                h--;
+            }
+            halfWidths[dx] = h;
+        }
+        return halfWidths;
+    }
+}
@@ -0,0 +1,320 @@
+package com.example.portfolio.service;
+
+import com.example.portfolio.config.CongestionProperties;
+import com.example.portfolio.domain.CellType;
+import com.example.portfolio.dto.CityStatsResponse;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 셀 변경을 누적 반영하는 도시 통계 모델
+ *
+ * CityStatsService.calculateStats(grid, baseHappiness)와 같은 결과를 내지만,
+ * 합계/커버리지 참조 카운트/주변 혼잡도 가중치 합을 유지하므로 셀 변경 비용은 변경된 셀 수에만 비례한다.
+ * 스레드 안전하지 않으므로 한 번에 한 요청만 사용해야 한다 (CityStatsCache.takeModel 참고).
+ */
+public final class IncrementalCityStats {
+
+    private static final int[][] POLICE_STENCIL = diskOffsets(CellType.POLICE_STATION.getEffectRadius());
+    private static final int[][] FIRE_STENCIL = diskOffsets(CellType.FIRE_STATION.getEffectRadius());
+
+    private final int width;
+    private final int height;
+    private final CellType[][] types;
+    private final int congestionRadius;
+    private final int[] congestionWeights;  // 셀 코드 기준
+
+    // 합계
+    private int population;
+    private int powerCapacity;
+    private int powerUsage;
+    private int taxPerHour;
+    private int trafficImpact;
+    private int roadCount;
+    private int residentialCount;
+    private int commercialCount;
+    private int industrialCount;
+    private int parkCount;
+
+    // 커버리지 참조 카운트 (해당 칸을 덮는 시설 수) 및 커버된 주거 수
+    private final int[][] policeCoverage;
+    private final int[][] fireCoverage;
+    private int coveredByPolice;
+    private int coveredByFire;
+
+    // 주변(혼잡도 반경) 셀 가중치 합과 혼잡도 맵
+    private final int[][] nearbyWeights;
+    private final int[][] congestion;
+    private int congestionBase = -1;  // 혼잡도 맵 계산에 사용된 기본 혼잡도 (-1: 도로 없음)
+
+    private IncrementalCityStats(int width, int height, CongestionProperties congestionProperties) {
+        this.width = width;
+        this.height = height;
+        this.types = new CellType[width][height];
+        this.congestionRadius = congestionProperties.getRadius();
+        this.congestionWeights = congestionProperties.weightTable();
+        this.policeCoverage = new int[width][height];
+        this.fireCoverage = new int[width][height];
+        this.nearbyWeights = new int[width][height];
+        this.congestion = new int[width][height];
+    }
+
+    /**
+     * 그리드 전체로 모델 생성 (그리드는 복사하지 않고 읽기만 함)
+     */
+    public static IncrementalCityStats fromGrid(int[][] grid, CongestionProperties congestionProperties) {
+        int width = grid.length;
+        int height = width > 0 ? grid[0].length : 0;
+        IncrementalCityStats stats = new IncrementalCityStats(width, height, congestionProperties);
+        for (int x = 0; x < width; x++) {
+            for (int y = 0; y < height; y++) {
+                stats.types[x][y] = CellType.EMPTY;
+            }
+        }
+        for (int x = 0; x < width; x++) {
+            for (int y = 0; y < height; y++) {
+                CellType type = CellType.fromCode(grid[x][y]);
+                stats.types[x][y] = type;
+                stats.addCell(x, y, type);
+            }
+        }
+        stats.refreshAllCongestion();
+        return stats;
+    }
+
+    /**
+     * 셀 하나 변경
+     *
+     * @throws IllegalArgumentException oldType이 모델의 현재 값과 다른 경우
+     */
+    public void apply(int x, int y, CellType oldType, CellType newType) {
+        if (types[x][y] != oldType) {
+            throw new IllegalArgumentException("셀 (" + x + ", " + y + ")의 현재 타입이 " + types[x][y] + "입니다");
+        }
+        List<int[]> dirty = new ArrayList<>(1);
+        replaceCell(x, y, newType, dirty);
+        refreshCongestion(dirty);
+    }
+
+    /**
+     * 셀 변경 목록 반영
+     *
+     * @param changes {x, y, code} 배열 목록
+     */
+    public void applyChanges(List<int[]> changes) {
+        List<int[]> dirty = new ArrayList<>(changes.size());
+        for (int[] change : changes) {
+            replaceCell(change[0], change[1], CellType.fromCode(change[2]), dirty);
+        }
+        refreshCongestion(dirty);
+    }
+
+    /**
+     * 현재 상태의 통계 (혼잡도 맵은 복사본)
+     */
+    public CityStatsResponse toResponse(int baseHappiness) {
+        // 치안율 / 화재 위험도 (커버리지 기반)
+        int crimeRate = residentialCount > 0
+            ? 100 - (coveredByPolice * 100 / Math.max(1, residentialCount))
+            : 0;
+        int fireRisk = residentialCount > 0
+            ? 100 - (coveredByFire * 100 / Math.max(1, residentialCount))
+            : 0;
+
+        // 교통량 (도로 대비 건물 비율)
+        int buildingCount = buildingCount();
+        int trafficLevel = roadCount > 0
+            ? Math.min(100, (buildingCount * 100) / (roadCount * 2) + trafficImpact)
+            : 0;
+
+        int happiness = CityStatsService.calculateHappiness(
+            baseHappiness, crimeRate, fireRisk, trafficLevel, parkCount, powerCapacity >= powerUsage);
+
+        int[][] congestionCopy = new int[width][];
+        for (int x = 0; x < width; x++) {
+            congestionCopy[x] = congestion[x].clone();
+        }
+
+        return CityStatsResponse.builder()
+                .population(population)
+                .happiness(happiness)
+                .powerCapacity(powerCapacity)
+                .powerUsage(powerUsage)
+                .crimeRate(crimeRate)
+                .fireRisk(fireRisk)
+                .trafficLevel(trafficLevel)
+                .taxPerHour(taxPerHour)
+                .roadCount(roadCount)
+                .residentialCount(residentialCount)
+                .commercialCount(commercialCount)
+                .industrialCount(industrialCount)
+                .congestionMap(congestionCopy)
+                .build();
+    }
+
+    private void replaceCell(int x, int y, CellType newType, List<int[]> dirty) {
+        CellType oldType = types[x][y];
+        if (oldType == newType) {
+            return;
+        }
+        removeCell(x, y, oldType);
+        types[x][y] = newType;
+        addCell(x, y, newType);
+        dirty.add(new int[]{x, y, weightOf(oldType) != weightOf(newType) ? 1 : 0});
+    }
+
+    private void addCell(int x, int y, CellType type) {
+        updateTotals(type, 1);
+        if (type.isResidential()) {
+            if (policeCoverage[x][y] > 0) coveredByPolice++;
+            if (fireCoverage[x][y] > 0) coveredByFire++;
+        }
+        if (type == CellType.POLICE_STATION) {
+            coverPolice(x, y, 1);
+        } else if (type == CellType.FIRE_STATION) {
+            coverFire(x, y, 1);
+        }
+        updateNearbyWeights(x, y, weightOf(type));
+    }
+
+    private void removeCell(int x, int y, CellType type) {
+        updateTotals(type, -1);
+        if (type.isResidential()) {
+            if (policeCoverage[x][y] > 0) coveredByPolice--;
+            if (fireCoverage[x][y] > 0) coveredByFire--;
+        }
+        if (type == CellType.POLICE_STATION) {
+            coverPolice(x, y, -1);
+        } else if (type == CellType.FIRE_STATION) {
+            coverFire(x, y, -1);
+        }
+        updateNearbyWeights(x, y, -weightOf(type));
+    }
+
+    private void updateTotals(CellType type, int sign) {
+        if (type.isRoad()) {
+            roadCount += sign;
+            return;
+        }
+        population += sign * type.getPopulationBonus();
+        if (type.producesPower()) {
+            powerCapacity += sign * type.getPowerProduction();
+        } else {
+            powerUsage += sign * type.getPowerConsumption();
+        }
+        taxPerHour += sign * type.getTaxPerHour();
+        trafficImpact += sign * type.getTrafficImpact();
+
+        switch (type) {
+            case PARK -> parkCount += sign;
+            case RESIDENTIAL_LOW, RESIDENTIAL_MID, RESIDENTIAL_HIGH -> residentialCount += sign;
+            case COMMERCIAL -> commercialCount += sign;
+            case INDUSTRIAL -> industrialCount += sign;
+            default -> {}
+        }
+    }
+
+    private void coverPolice(int cx, int cy, int sign) {
+        for (int[] offset : POLICE_STENCIL) {
+            int nx = cx + offset[0], ny = cy + offset[1];
+            if (nx < 0 || nx >= width || ny < 0 || ny >= height) continue;
+            int before = policeCoverage[nx][ny];
+            policeCoverage[nx][ny] = before + sign;
+            if (types[nx][ny].isResidential() && (before == 0) != (before + sign == 0)) {
+                coveredByPolice += sign;
+            }
+        }
+    }
+
+    private void coverFire(int cx, int cy, int sign) {
+        for (int[] offset : FIRE_STENCIL) {
+            int nx = cx + offset[0], ny = cy + offset[1];
+            if (nx < 0 || nx >= width || ny < 0 || ny >= height) continue;
+            int before = fireCoverage[nx][ny];
+            fireCoverage[nx][ny] = before + sign;
+            if (types[nx][ny].isResidential() && (before == 0) != (before + sign == 0)) {
+                coveredByFire += sign;
+            }
+        }
+    }
+
+    private void updateNearbyWeights(int cx, int cy, int weight) {
+        if (weight == 0) {
+            return;
+        }
+        int minX = Math.max(0, cx - congestionRadius), maxX = Math.min(width - 1, cx + congestionRadius);
+        int minY = Math.max(0, cy - congestionRadius), maxY = Math.min(height - 1, cy + congestionRadius);
+        for (int x = minX; x <= maxX; x++) {
+            for (int y = minY; y <= maxY; y++) {
+                nearbyWeights[x][y] += weight;
+            }
+        }
+    }
+
+    /**
+     * 기본 혼잡도가 바뀌면 전체 갱신, 아니면 변경된 셀과 주변 건물 수가 바뀐 칸만 갱신
+     */
+    private void refreshCongestion(List<int[]> dirty) {
+        if (dirty.isEmpty()) {
+            return;
+        }
+        if (currentCongestionBase() != congestionBase) {
+            refreshAllCongestion();
+            return;
+        }
+        for (int[] cell : dirty) {
+            int cx = cell[0], cy = cell[1];
+            if (cell[2] == 0) {
+                refreshCongestionCell(cx, cy);
+                continue;
+            }
+            int minX = Math.max(0, cx - congestionRadius), maxX = Math.min(width - 1, cx + congestionRadius);
+            int minY = Math.max(0, cy - congestionRadius), maxY = Math.min(height - 1, cy + congestionRadius);
+            for (int x = minX; x <= maxX; x++) {
+                for (int y = minY; y <= maxY; y++) {
+                    refreshCongestionCell(x, y);
+                }
+            }
+        }
+    }
+
+    private void refreshAllCongestion() {
+        congestionBase = currentCongestionBase();
+        for (int x = 0; x < width; x++) {
+            for (int y = 0; y < height; y++) {
+                refreshCongestionCell(x, y);
+            }
+        }
+    }
+
+    private void refreshCongestionCell(int x, int y) {
+        congestion[x][y] = congestionBase >= 0 && types[x][y].isRoad()
+            ? Math.min(100, congestionBase + nearbyWeights[x][y])
+            : 0;
+    }
+
+    private int currentCongestionBase() {
+        return roadCount == 0 ? -1 : Math.min(100, (buildingCount() * 50) / roadCount);
+    }
+
+    private int buildingCount() {
+        return residentialCount + commercialCount + industrialCount;
+    }
+
+    private int weightOf(CellType type) {
+        return congestionWeights[type.getCode()];
+    }
+
+    private static int[][] diskOffsets(int radius) {
+        List<int[]> offsets = new ArrayList<>();
+        for (int dx = -radius; dx <= radius; dx++) {
+            for (int dy = -radius; dy <= radius; dy++) {
+                if (dx * dx + dy * dy <= radius * radius) {
+                    offsets.add(new int[]{dx, dy});
+                }
+            }
+        }
+        return offsets.toArray(new int[0][]);
+    }
+}
@@ -0,0 +1,123 @@
+package com.example.portfolio.service;
+
+import com.example.portfolio.dto.CityMapResponse;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.util.function.Supplier;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * 방문자(소유자가 아닌 사용자) 도시 조회 응답 캐시 - 직렬화된 JSON과 gzip 바이트를 (username, cityName) 기준으로 저장
+ *
+ * 방문자 응답에는 조회자별 값이 없으므로(isOwner=false, 오프라인 수익/보상 0) 모든 방문자가 공유한다.
+ * 같은 키의 동시 미스는 Caffeine이 하나의 로드로 합친다.
+ * 도시를 변경하는 작업은 커밋 후 evictAfterCommit으로 무효화해야 한다.
+ */
+@Component
+public class PublicCityResponseCache {
+
+    // 이름 없이 조회한 기본 도시 / "My City" 대체 조회도 같은 도시를 가리킬 수 있으므로 함께 무효화
+    private static final String DEFAULT_CITY = "";
+    private static final String MY_CITY = "My City";
+
+    private final Cache<Key, Entry> cache;
+    private final ObjectMapper objectMapper;
+
+    public PublicCityResponseCache(MeterRegistry meterRegistry, ObjectMapper objectMapper,
+                                   @Value("${city.public-response-cache.max-bytes:67108864}") long maxBytes,
+                                   @Value("${city.public-response-cache.expire-after-write-minutes:10}") long expireMinutes) {
+        this.objectMapper = objectMapper;
+        this.cache = Caffeine.newBuilder()
+                .maximumWeight(maxBytes)
+                .weigher((Key key, Entry entry) -> entry.weight())
+                .expireAfterWrite(Duration.ofMinutes(expireMinutes))
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "city.public-response");
+        Gauge.builder("city.public-response.size.bytes", cache,
+                        c -> c.policy().eviction().map(eviction -> eviction.weightedSize().orElse(0L)).orElse(0L))
+                .description("방문자 응답 캐시에 저장된 JSON + gzip 바이트")
+                .baseUnit("bytes")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 캐시된 응답 조회 (없으면 loader로 만들어 직렬화한 뒤 저장, loader의 예외는 그대로 전달되고 캐시하지 않음)
+     */
+    public Entry get(String username, String cityName, Supplier<CityMapResponse> loader) {
+        return cache.get(new Key(username, normalize(cityName)), key -> serialize(loader.get()));
+    }
+
+    /**
+     * 도시 변경 후 해당 도시의 방문자 응답 무효화 (트랜잭션 중이면 커밋 후, 진행 중인 로드는 끝난 뒤 제거됨)
+     */
+    public void evictAfterCommit(String username, String... cityNames) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    evict(username, cityNames);
+                }
+            });
+        } else {
+            evict(username, cityNames);
+        }
+    }
+
+    private void evict(String username, String... cityNames) {
+        cache.invalidate(new Key(username, DEFAULT_CITY));
+        cache.invalidate(new Key(username, MY_CITY));
+        for (String cityName : cityNames) {
+            cache.invalidate(new Key(username, normalize(cityName)));
+        }
+    }
+
+    private Entry serialize(CityMapResponse response) {
+        try {
+            byte[] json = objectMapper.writeValueAsBytes(response);
+            return new Entry(json, gzip(json), response.getEtag());
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("도시 응답 직렬화 실패", e);
+        }
+    }
+
+    private static byte[] gzip(byte[] data) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(Math.max(64, data.length / 4));
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+            gzip.write(data);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return out.toByteArray();
+    }
+
+    private static String normalize(String cityName) {
+        return cityName != null ? cityName : DEFAULT_CITY;
+    }
+
+    private record Key(String username, String cityName) {
+    }
+
+    /**
+     * @param etag 응답 ETag (없으면 null)
+     */
+    public record Entry(byte[] json, byte[] gzip, String etag) {
+        int weight() {
+            return json.length + gzip.length + 64;
+        }
+    }
+}
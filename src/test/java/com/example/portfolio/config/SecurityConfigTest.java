@@ -0,0 +1,69 @@
+package com.example.portfolio.config;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
+import org.springframework.security.core.userdetails.UserDetailsService;
+import org.springframework.security.provisioning.InMemoryUserDetailsManager;
+import org.springframework.test.context.junit.jupiter.web.SpringJUnitWebConfig;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.context.WebApplicationContext;
+import org.springframework.web.servlet.config.annotation.EnableWebMvc;
+
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.user;
+import static org.springframework.security.test.web.servlet.setup.SecurityMockMvcConfigurers.springSecurity;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+// DB 없이 SecurityConfig의 필터 체인만 올려 경로별 접근 규칙 확인 (컨트롤러가 없으므로 통과하면 404)
+@SpringJUnitWebConfig(SecurityConfigTest.TestConfig.class)
+class SecurityConfigTest {
+
+    @Configuration
+    @EnableWebMvc
+    @EnableWebSecurity
+    @Import(SecurityConfig.class)
+    static class TestConfig {
+
+        @Bean
+        UserDetailsService userDetailsService() {
+            return new InMemoryUserDetailsManager();
+        }
+    }
+
+    @Autowired
+    private WebApplicationContext context;
+
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() {
+        mockMvc = MockMvcBuilders.webAppContextSetup(context).apply(springSecurity()).build();
+    }
+
+    @Test
+    void metricsRequireAdmin() throws Exception {
+        mockMvc.perform(request("/actuator/metrics")).andExpect(status().isUnauthorized());
+        mockMvc.perform(request("/actuator/metrics/city.grid.cache")).andExpect(status().isUnauthorized());
+        mockMvc.perform(request("/actuator/metrics").with(user("player").roles("USER"))).andExpect(status().isForbidden());
+        mockMvc.perform(request("/actuator/metrics").with(user("admin").roles("ADMIN"))).andExpect(status().isNotFound());
+    }
+
+    @Test
+    void cityPagesAndHealthStayPublic() throws Exception {
+        mockMvc.perform(request("/actuator/health")).andExpect(status().isNotFound());
+        mockMvc.perform(request("/player")).andExpect(status().isNotFound());
+        mockMvc.perform(request("/player/my-city")).andExpect(status().isNotFound());
+    }
+
+    // DispatcherServlet이 "/"에 매핑된 실제 환경처럼 servletPath에 전체 경로 설정 (도시 페이지 매처가 servletPath를 봄)
+    private static MockHttpServletRequestBuilder request(String path) {
+        return get(path).servletPath(path);
+    }
+}
@@ -0,0 +1,234 @@
+package com.example.portfolio.config;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.zip.GZIPOutputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class StaticAssetFilterTest {
+
+    private static final String MODEL = "models/Fire Station/Group 6.glb";
+    private static final String HASH = "0123456789ab";
+    private static final String VERSIONED_URI = "/assets/models/Fire%20Station/Group%206-" + HASH + ".glb";
+
+    @TempDir
+    Path root;
+
+    private final AssetManifest manifest = new AssetManifest(Map.of(MODEL, HASH));
+    private StaticAssetFilter filter;
+    private byte[] content;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        content = new byte[4096];
+        for (int i = 0; i < content.length; i++) {
+            content[i] = (byte) (i % 7);
+        }
+        Path file = root.resolve(MODEL);
+        Files.createDirectories(file.getParent());
+        Files.write(file, content);
+        ByteArrayOutputStream gzip = new ByteArrayOutputStream();
+        try (GZIPOutputStream out = new GZIPOutputStream(gzip)) {
+            out.write(content);
+        }
+        Files.write(file.resolveSibling("Group 6.glb.gz"), gzip.toByteArray());
+        filter = new StaticAssetFilter(root.toRealPath(), manifest, new TextureVariants(Map.of()), false);
+    }
+
+    @Test
+    void versionedPathsInsertHashBeforeExtension() {
+        assertThat(manifest.versionedPath(MODEL)).isEqualTo("models/Fire Station/Group 6-" + HASH + ".glb");
+        assertThat(manifest.logicalPath("models/Fire Station/Group 6-" + HASH + ".glb")).isEqualTo(MODEL);
+        assertThat(manifest.logicalPath("models/Fire Station/Group 6-ba9876543210.glb")).isNull();
+        assertThat(manifest.logicalPath(MODEL)).isNull();
+        assertThat(manifest.versionedPath("models/unknown.glb")).isNull();
+        assertThat(manifest.url(MODEL)).isEqualTo(VERSIONED_URI);
+        assertThat(manifest.url("js/unknown.js")).isEqualTo("/js/unknown.js");
+    }
+
+    @Test
+    void servesCurrentHashAsImmutable() throws Exception {
+        MockHttpServletResponse response = get(VERSIONED_URI, null);
+
+        assertThat(response.getStatus()).isEqualTo(200);
+        assertThat(response.getContentAsByteArray()).isEqualTo(content);
+        assertThat(response.getContentType()).isEqualTo("model/gltf-binary");
+        assertThat(response.getHeader("Cache-Control")).isEqualTo("max-age=31536000, public, immutable");
+        assertThat(response.getHeader("Vary")).isEqualTo("Accept-Encoding");
+        assertThat(response.getHeader("Content-Encoding")).isNull();
+    }
+
+    @Test
+    void rejectsStaleUnversionedAndTraversalPaths() throws Exception {
+        assertThat(get("/assets/models/Fire%20Station/Group%206-ba9876543210.glb", null).getStatus()).isEqualTo(404);
+        assertThat(get("/assets/models/Fire%20Station/Group%206.glb", null).getStatus()).isEqualTo(404);
+        assertThat(get("/models/..%2F..%2Fetc/passwd", null).getStatus()).isEqualTo(404);
+        assertThat(get("/models/Fire%20Station/Group%206.glb", null).getHeader("Cache-Control")).isEqualTo("max-age=3600");
+    }
+
+    @Test
+    void servesPrecompressedVariantWhenAccepted() throws Exception {
+        MockHttpServletRequest request = request(VERSIONED_URI);
+        request.addHeader("Accept-Encoding", "gzip, deflate, br");
+        MockHttpServletResponse response = execute(request);
+
+        assertThat(response.getHeader("Content-Encoding")).isEqualTo("gzip");
+        assertThat(response.getHeader("Vary")).isEqualTo("Accept-Encoding");
+        assertThat(response.getContentAsByteArray().length).isLessThan(content.length);
+        assertThat(response.getHeader("ETag")).endsWith("-gz\"");
+    }
+
+    @Test
+    void honorsAcceptEncodingQualityValues() throws Exception {
+        MockHttpServletRequest refused = request(VERSIONED_URI);
+        refused.addHeader("Accept-Encoding", "gzip;q=0, br");
+        MockHttpServletResponse response = execute(refused);
+
+        assertThat(response.getHeader("Content-Encoding")).isNull();
+        assertThat(response.getContentAsByteArray()).isEqualTo(content);
+
+        assertThat(AcceptEncoding.acceptsGzip("gzip; q=0.0")).isFalse();
+        assertThat(AcceptEncoding.acceptsGzip("br, *;q=0")).isFalse();
+        assertThat(AcceptEncoding.acceptsGzip("GZIP;q=0.5")).isTrue();
+        assertThat(AcceptEncoding.acceptsGzip("br, *")).isTrue();
+        assertThat(AcceptEncoding.acceptsGzip("identity")).isFalse();
+        assertThat(AcceptEncoding.acceptsGzip(null)).isFalse();
+    }
+
+    @Test
+    void servesSingleByteRange() throws Exception {
+        MockHttpServletResponse response = get(VERSIONED_URI, "bytes=100-199");
+
+        assertThat(response.getStatus()).isEqualTo(206);
+        assertThat(response.getHeader("Content-Range")).isEqualTo("bytes 100-199/4096");
+        assertThat(response.getContentAsByteArray()).isEqualTo(Arrays.copyOfRange(content, 100, 200));
+
+        MockHttpServletResponse suffix = get(VERSIONED_URI, "bytes=-10");
+        assertThat(suffix.getHeader("Content-Range")).isEqualTo("bytes 4086-4095/4096");
+
+        MockHttpServletResponse unsatisfiable = get(VERSIONED_URI, "bytes=5000-");
+        assertThat(unsatisfiable.getStatus()).isEqualTo(416);
+        assertThat(unsatisfiable.getHeader("Content-Range")).isEqualTo("bytes */4096");
+
+        assertThat(get(VERSIONED_URI, "bytes=0-1,5-6").getStatus()).isEqualTo(200);
+    }
+
+    @Test
+    void usesTomcatSendfileWhenSupported() throws Exception {
+        MockHttpServletRequest request = request(VERSIONED_URI);
+        request.setAttribute("org.apache.tomcat.sendfile.support", Boolean.TRUE);
+        request.addHeader("Range", "bytes=0-");
+        Files.write(root.resolve(MODEL), new byte[64 * 1024]);
+        filter = new StaticAssetFilter(root.toRealPath(), manifest, new TextureVariants(Map.of()), false);
+
+        MockHttpServletResponse response = execute(request);
+
+        assertThat(response.getContentAsByteArray()).isEmpty();
+        assertThat(response.getContentLengthLong()).isEqualTo(64 * 1024);
+        assertThat(request.getAttribute("org.apache.tomcat.sendfile.filename"))
+                .isEqualTo(root.toRealPath().resolve(MODEL).toString());
+        assertThat(request.getAttribute("org.apache.tomcat.sendfile.start")).isEqualTo(0L);
+        assertThat(request.getAttribute("org.apache.tomcat.sendfile.end")).isEqualTo(64 * 1024L);
+    }
+
+    @Test
+    void rereadsChangedFilesWhenServingFromClassesDirectory() throws Exception {
+        MockHttpServletResponse before = get(VERSIONED_URI, null);
+        assertThat(before.getContentLengthLong()).isEqualTo(content.length);
+
+        // processResources 등으로 실행 중 파일이 바뀜
+        Path file = root.resolve(MODEL);
+        Files.write(file, new byte[1000]);
+        Files.setLastModifiedTime(file, FileTime.fromMillis(System.currentTimeMillis() + 60_000));
+
+        MockHttpServletResponse after = get(VERSIONED_URI, null);
+        assertThat(after.getContentLengthLong()).isEqualTo(1000);
+        assertThat(after.getContentAsByteArray()).hasSize(1000);
+        assertThat(after.getHeader("ETag")).isNotEqualTo(before.getHeader("ETag"));
+    }
+
+        @Test
+    void servesModelFromBundleByRange() throws Exception {
+        Files.createDirectories(root.resolve("bundles"));
+        Files.write(root.resolve("bundles/vehicles.bundle"), content);
+
+        MockHttpServletResponse response = get("/bundles/vehicles.bundle", "bytes=1024-2047");
+
+        assertThat(response.getStatus()).isEqualTo(206);
+        assertThat(response.getHeader("Cache-Control")).isEqualTo("max-age=3600");
+        assertThat(response.getContentAsByteArray()).isEqualTo(Arrays.copyOfRange(content, 1024, 2048));
+    }
+
+    @Test
+    void selectsTextureVariantFromQueryAndClientHints() throws Exception {
+        String sky = "textures/sky/day_px.png";
+        Files.createDirectories(root.resolve("textures/sky"));
+        Files.write(root.resolve(sky), new byte[2048]);
+        Files.write(root.resolve("textures/sky/day_px@1024.png"), new byte[1024]);
+        Files.write(root.resolve("textures/sky/day_px@512.png"), new byte[512]);
+        filter = new StaticAssetFilter(root.toRealPath(), manifest, new TextureVariants(Map.of(sky,
+                new TextureVariants.Texture(2048, Map.of(1024, "textures/sky/day_px@1024.png", 512, "textures/sky/day_px@512.png")))), false);
+
+        MockHttpServletResponse original = get("/" + sky, null);
+        assertThat(original.getContentLengthLong()).isEqualTo(2048);
+        assertThat(original.getHeader("Vary")).isEqualTo("Sec-CH-Viewport-Width, Viewport-Width, Sec-CH-DPR, DPR, Save-Data");
+
+        MockHttpServletRequest query = request("/" + sky);
+        query.setParameter("w", "900");
+        assertThat(execute(query).getContentLengthLong()).isEqualTo(1024);
+
+        MockHttpServletRequest mobile = request("/" + sky);
+        mobile.addHeader("Sec-CH-Viewport-Width", "390");
+        mobile.addHeader("Sec-CH-DPR", "3");
+        assertThat(execute(mobile).getContentLengthLong()).isEqualTo(1024);  // DPR은 2배까지
+
+        mobile.addHeader("Save-Data", "on");
+        assertThat(execute(mobile).getContentLengthLong()).isEqualTo(512);
+
+        MockHttpServletRequest desktop = request("/" + sky);
+        desktop.addHeader("Sec-CH-Viewport-Width", "1920");
+        assertThat(execute(desktop).getContentLengthLong()).isEqualTo(2048);
+    }
+
+    @Test
+    void answersConditionalRequestWithNotModified() throws Exception {
+        String etag = get(VERSIONED_URI, null).getHeader("ETag");
+
+        MockHttpServletRequest request = request(VERSIONED_URI);
+        request.addHeader("If-None-Match", etag);
+        MockHttpServletResponse response = execute(request);
+
+        assertThat(response.getStatus()).isEqualTo(304);
+        assertThat(response.getContentAsByteArray()).isEmpty();
+    }
+
+    private MockHttpServletResponse get(String uri, String range) throws Exception {
+        MockHttpServletRequest request = request(uri);
+        if (range != null) {
+            request.addHeader("Range", range);
+        }
+        return execute(request);
+    }
+
+    private static MockHttpServletRequest request(String uri) {
+        return new MockHttpServletRequest("GET", uri);
+    }
+
+    private MockHttpServletResponse execute(MockHttpServletRequest request) throws Exception {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(request, response, new MockFilterChain());
+        return response;
+    }
+}
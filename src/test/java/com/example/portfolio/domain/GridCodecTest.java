@@ -0,0 +1,78 @@
+package com.example.portfolio.domain;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class GridCodecTest {
+
+    @Test
+    void packedRoundTrip() {
+        Random random = new Random(42);
+        for (int i = 0; i < 200; i++) {
+            int[][] grid = new int[70][70];
+            for (int x = 0; x < 70; x++) {
+                for (int y = 0; y < 70; y++) {
+                    grid[x][y] = i % 2 == 0 ? random.nextInt(256) : (random.nextInt(8) == 0 ? random.nextInt(34) : 0);
+                }
+                grid[x][68] = 14;
+                grid[x][69] = 14;
+            }
+
+            String encoded = GridCodec.encode(grid);
+
+            assertThat(GridCodec.isPacked(encoded)).isTrue();
+            assertThat(GridCodec.decode(encoded)).isDeepEqualTo(grid);
+        }
+    }
+
+    @Test
+    void readsLegacyJsonAndTemplateFormats() {
+        assertThat(GridCodec.decode("[[1,2],[3,4]]")).isDeepEqualTo(new int[][]{{1, 2}, {3, 4}});
+        assertThat(GridCodec.decode("{\"tiles\":[[0,14],[0,14]],\"env\":{\"sea\":true}}"))
+                .isDeepEqualTo(new int[][]{{0, 14}, {0, 14}});
+    }
+
+    @Test
+    void fallsBackToJsonForOutOfRangeCells() {
+        String encoded = GridCodec.encode(new int[][]{{0, 300}});
+
+        assertThat(GridCodec.isPacked(encoded)).isFalse();
+        assertThat(GridCodec.decode(encoded)).isDeepEqualTo(new int[][]{{0, 300}});
+    }
+
+    @Test
+    void rejectsCorruptData() {
+        assertThatThrownBy(() -> GridCodec.decode(GridCodec.PACKED_PREFIX + "AAAA"))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThat(GridCodec.decodeOrEmpty("not a grid", 70)).hasDimensions(70, 70);
+    }
+
+    @Test
+    void journalChangesReplayOntoSnapshot() {
+        int[][] grid = new int[70][70];
+        byte[] first = GridCodec.encodeChanges(List.of(new int[]{1, 2, 21}, new int[]{69, 67, 13}));
+        byte[] second = GridCodec.encodeChanges(List.of(new int[]{1, 2, 0}));
+
+        GridCodec.applyChanges(grid, first);
+        GridCodec.applyChanges(grid, second);
+
+        assertThat(grid[1][2]).isEqualTo(0);
+        assertThat(grid[69][67]).isEqualTo(13);
+    }
+
+    @Test
+    void converterPacksLegacyJsonOnWrite() {
+        GridDataConverter converter = new GridDataConverter();
+
+        String stored = converter.convertToDatabaseColumn("[[0,14],[0,14]]");
+
+        assertThat(GridCodec.isPacked(stored)).isTrue();
+        assertThat(GridCodec.decode(converter.convertToEntityAttribute(stored)))
+                .isDeepEqualTo(new int[][]{{0, 14}, {0, 14}});
+    }
+}
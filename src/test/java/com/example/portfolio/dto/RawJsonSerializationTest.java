@@ -0,0 +1,56 @@
+package com.example.portfolio.dto;
+
+import com.example.portfolio.domain.CityMap;
+import com.example.portfolio.domain.CityMapPayload;
+import com.example.portfolio.domain.Role;
+import com.example.portfolio.domain.User;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class RawJsonSerializationTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    void requestKeepsClientStateAsCompactJson() throws Exception {
+        CityCellPatchRequest request = objectMapper.readValue("""
+                {"baseVersion": 3, "changes": [],
+                 "buildings": {"civilBuildings": [ {"x": 1, "y": 2, "level": 3} ], "trees": []},
+                 "cameraState": {"position": {"x": 1.5, "y": 2, "z": -3}},
+                 "gameState": null}
+                """, CityCellPatchRequest.class);
+
+        assertThat(request.getBuildings()).isEqualTo("{\"civilBuildings\":[{\"x\":1,\"y\":2,\"level\":3}],\"trees\":[]}");
+        assertThat(request.getCameraState()).isEqualTo("{\"position\":{\"x\":1.5,\"y\":2,\"z\":-3}}");
+        assertThat(request.getGameState()).isNull();
+    }
+
+    @Test
+    void malformedClientStateIsRejected() {
+        assertThatThrownBy(() -> objectMapper.readValue(
+                "{\"grid\": [], \"money\": 0, \"buildings\": {\"a\": [1, }}", CityMapUpdateRequest.class))
+                .isInstanceOf(JsonProcessingException.class);
+    }
+
+    @Test
+    void responseWritesStoredJsonVerbatim() throws Exception {
+        User user = User.builder().username("tester").role(Role.USER).build();
+        CityMap cityMap = CityMap.createDefault(user, "Raw City", "raw-city");
+        CityMapPayload payload = new CityMapPayload(1L, CityMapPayload.defaultGridData());
+        payload.replaceAll(CityMapPayload.defaultGridData(), 0L,
+                "{\"civilBuildings\":[{\"x\":1,\"y\":2}]}", "", "{\"gameTime\":720,\"gameDay\":3}");
+
+        JsonNode json = objectMapper.readTree(objectMapper.writeValueAsString(
+                new CityMapResponse(cityMap, payload, new int[][]{{0, 1}, {2, 3}}, true)));
+
+        assertThat(json.get("buildings").get("civilBuildings").get(0).get("y").asInt()).isEqualTo(2);
+        assertThat(json.get("cameraState").isNull()).isTrue();
+        assertThat(json.get("gameState").get("gameDay").asInt()).isEqualTo(3);
+        assertThat(json.get("grid").get(1).get(1).asInt()).isEqualTo(3);
+    }
+}
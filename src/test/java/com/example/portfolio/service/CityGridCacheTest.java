@@ -0,0 +1,40 @@
+package com.example.portfolio.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CityGridCacheTest {
+
+    private final CityGridCache cache = new CityGridCache(new SimpleMeterRegistry(), 100_000, 30);
+
+    @Test
+    void returnsCopiesForMatchingVersionOnly() {
+        cache.put(1L, 3, new int[][]{{1, 2}, {3, 4}});
+
+        int[][] first = cache.get(1L, 3);
+        first[0][0] = 99;
+
+        assertThat(cache.get(1L, 3)).isDeepEqualTo(new int[][]{{1, 2}, {3, 4}});
+        assertThat(cache.get(1L, 4)).isNull();
+        assertThat(cache.get(2L, 3)).isNull();
+    }
+
+    @Test
+    void olderVersionDoesNotReplaceNewerEntry() {
+        cache.put(1L, 5, new int[][]{{5}});
+        cache.put(1L, 4, new int[][]{{4}});
+
+        assertThat(cache.get(1L, 5)).isDeepEqualTo(new int[][]{{5}});
+        assertThat(cache.get(1L, 4)).isNull();
+    }
+
+    @Test
+    void invalidateDropsEntry() {
+        cache.put(1L, 1, new int[][]{{1}});
+        cache.invalidate(1L);
+
+        assertThat(cache.get(1L, 1)).isNull();
+    }
+}
@@ -0,0 +1,41 @@
+package com.example.portfolio.service;
+
+import com.example.portfolio.domain.CityMap;
+import com.example.portfolio.domain.Role;
+import com.example.portfolio.domain.User;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CityMapETagTest {
+
+    private final CityMap cityMap = CityMap.createDefault(
+            User.builder().username("tester").role(Role.USER).build(), "ETag City", "etag-city");
+
+    @Test
+    void tagChangesWithStateAndView() {
+        String tag = CityMapETag.of(cityMap, 3L, true, 0L, 0L);
+
+        assertThat(CityMapETag.of(cityMap, 3L, true, 0L, 0L)).isEqualTo(tag);
+        assertThat(CityMapETag.of(cityMap, 4L, true, 0L, 0L)).isNotEqualTo(tag);
+        assertThat(CityMapETag.of(cityMap, 3L, false, 0L, 0L)).isNotEqualTo(tag);
+        assertThat(CityMapETag.of(cityMap, 3L, true, 500L, 0L)).isNotEqualTo(tag);
+
+        cityMap.setMoney(cityMap.getMoney() + 1);
+        assertThat(CityMapETag.of(cityMap, 3L, true, 0L, 0L)).isNotEqualTo(tag);
+    }
+
+    @Test
+    void ifMatchComparesStateOnly() {
+        String ownerTag = CityMapETag.of(cityMap, 3L, true, 1200L, 0L);
+
+        // 오프라인 수익(뷰)이 달라도 상태가 같으면 일치
+        assertThat(CityMapETag.matchesState(ownerTag, cityMap, 3L)).isTrue();
+        assertThat(CityMapETag.matchesState("\"0-0\", " + ownerTag, cityMap, 3L)).isTrue();
+        assertThat(CityMapETag.matchesState("*", cityMap, 3L)).isTrue();
+
+        assertThat(CityMapETag.matchesState(ownerTag, cityMap, 4L)).isFalse();
+        assertThat(CityMapETag.matchesState("W/" + ownerTag, cityMap, 3L)).isFalse();
+        assertThat(CityMapETag.matchesState("\"garbage\"", cityMap, 3L)).isFalse();
+    }
+}
@@ -0,0 +1,81 @@
+package com.example.portfolio.service;
+
+import com.example.portfolio.domain.CellType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CityModelCatalogTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    void collectsModelsFromGridAndBuildings() throws Exception {
+        int[][] grid = new int[4][4];
+        grid[0][0] = CellType.ROAD.getCode();
+        grid[0][1] = CellType.ROAD.getCode();
+        grid[1][0] = CellType.WATER.getCode();
+        grid[3][3] = CellType.LOCKED_ROAD_4LANE.getCode();
+        String buildings = """
+                {
+                  "civilBuildings": [
+                    {"prefabName": "residential_0_1x1_Group%2012", "width": 1, "depth": 1},
+                    {"prefabName": "commercial_1_2x2_tile_for_home_2x2.002%20(3)", "width": 2, "depth": 2},
+                    {"prefabName": "Filler_Residential"}
+                  ],
+                  "publicBuildings": [
+                    {"type": "powerplant_wind", "width": 2, "depth": 2, "expansions": [{"width": 3, "depth": 1}]},
+                    {"type": "park", "width": 2, "depth": 2}
+                  ],
+                  "trees": [{"modelIndex": 1}, {"modelIndex": 1}, {"modelIndex": 9}]
+                }
+                """;
+
+        Map<String, Integer> footprints = CityModelCatalog.collect(grid, objectMapper.readTree(buildings));
+
+        assertThat(footprints)
+                .containsEntry(CityModelCatalog.GRASS, 12)
+                .containsEntry("models/roads/DD.glb", 2)
+                .containsEntry("models/roads/road_tile_2x2_5.glb", 1)
+                .containsEntry(CityModelCatalog.WATER, 1)
+                .containsEntry("models/civil buildlings/resident middle/1x1/Group 12.glb", 1)
+                .containsEntry("models/civil buildlings/commerical high/2x2/tile_for_home_2x2.002 (3).glb", 4)
+                .containsEntry("models/turbin1.glb", 4)
+                .containsEntry("models/turbin_module.glb", 3)
+                .containsEntry("models/Park/2x2/Group 4.glb", 4)
+                .containsEntry("models/trees.011.glb", 2)
+                .doesNotContainKeys(CityModelCatalog.BRIDGE, "models/trees.010.glb", "models/school/Group 7.glb");
+    }
+
+    @Test
+    void missingBuildingsDataStillListsGridModels() {
+        Map<String, Integer> footprints = CityModelCatalog.collect(new int[2][2], null);
+
+        assertThat(footprints).containsEntry(CityModelCatalog.GRASS, 4);
+        assertThat(footprints.keySet()).containsAll(CityModelCatalog.TERRAIN);
+    }
+
+    @Test
+    void catalogPathsExistInStaticAssets() {
+        List<String> paths = new ArrayList<>();
+        paths.add(CityModelCatalog.GRASS);
+        paths.addAll(CityModelCatalog.ROAD);
+        paths.addAll(CityModelCatalog.ROAD_4LANE);
+        paths.add(CityModelCatalog.WATER);
+        paths.add(CityModelCatalog.BRIDGE);
+        paths.addAll(CityModelCatalog.TERRAIN);
+        paths.addAll(CityModelCatalog.TREES);
+        CityModelCatalog.PUBLIC_BUILDINGS.values().forEach(paths::addAll);
+        paths.addAll(CityModelCatalog.EXPANSIONS.values());
+
+        Path root = Path.of("src/main/resources/static");
+        assertThat(paths).allMatch(path -> Files.isRegularFile(root.resolve(path)), "static/ 아래에 존재");
+    }
+}
@@ -0,0 +1,40 @@
+package com.example.portfolio.service;
+
+import com.example.portfolio.dto.CityStatsResponse;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CityStatsCacheTest {
+
+    private final CityStatsCache cache = new CityStatsCache(new SimpleMeterRegistry(), 100, 60, 10);
+
+    @Test
+    void reusesStatsForSameGridContent() {
+        AtomicInteger calculations = new AtomicInteger();
+        int[][] grid = {{0, 3}, {1, 14}};
+
+        cache.get(grid, 50, () -> stats(calculations.incrementAndGet()));
+        CityStatsResponse second = cache.get(new int[][]{{0, 3}, {1, 14}}, 50, () -> stats(calculations.incrementAndGet()));
+
+        assertThat(calculations).hasValue(1);
+        assertThat(second.getPopulation()).isEqualTo(1);
+    }
+
+    @Test
+    void keyDependsOnCellsShapeAndHappiness() {
+        CityStatsCache.StatsKey base = CityStatsCache.keyOf(new int[][]{{0, 3}, {1, 14}}, 50);
+
+        assertThat(CityStatsCache.keyOf(new int[][]{{0, 3}, {1, 13}}, 50)).isNotEqualTo(base);
+        assertThat(CityStatsCache.keyOf(new int[][]{{3, 0}, {1, 14}}, 50)).isNotEqualTo(base);
+        assertThat(CityStatsCache.keyOf(new int[][]{{0, 3, 1, 14}}, 50)).isNotEqualTo(base);
+        assertThat(CityStatsCache.keyOf(new int[][]{{0, 3}, {1, 14}}, 51)).isNotEqualTo(base);
+    }
+
+    private static CityStatsResponse stats(int population) {
+        return CityStatsResponse.builder().population(population).build();
+    }
+}
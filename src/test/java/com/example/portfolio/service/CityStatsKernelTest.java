@@ -0,0 +1,71 @@
+package com.example.portfolio.service;
+
+import com.example.portfolio.config.CongestionProperties;
+import com.example.portfolio.domain.CellType;
+import com.example.portfolio.dto.CityStatsResponse;
+import org.junit.jupiter.api.Test;
+
+import java.lang.management.ManagementFactory;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+class CityStatsKernelTest {
+
+    private final CongestionProperties congestionProperties = new CongestionProperties();
+
+    @Test
+    void reusedScratchMatchesFreshModelAcrossGridSizes() {
+        Random random = new Random(11);
+        CellType[] types = CellType.values();
+        // 큰 그리드 -> 작은 그리드 순서로 계산해 스레드 버퍼 재사용 시 이전 값이 남지 않는지 확인
+        int[][] sizes = {{70, 70}, {50, 50}, {70, 70}, {13, 67}, {70, 70}};
+        for (int[] size : sizes) {
+            int[][] grid = new int[size[0]][size[1]];
+            for (int[] column : grid) {
+                for (int y = 0; y < column.length; y++) {
+                    column[y] = types[random.nextInt(types.length)].getCode();
+                }
+            }
+            int baseHappiness = random.nextInt(101);
+
+            CityStatsResponse actual = CityStatsKernel.calculate(grid, baseHappiness,
+                    congestionProperties.getRadius(), congestionProperties.weightTable());
+            CityStatsResponse expected = IncrementalCityStats.fromGrid(grid, congestionProperties)
+                    .toResponse(baseHappiness);
+
+            assertThat(actual).usingRecursiveComparison().isEqualTo(expected);
+        }
+    }
+
+    @Test
+    void steadyStateAllocatesOnlyResult() {
+        assumeTrue(ManagementFactory.getThreadMXBean() instanceof com.sun.management.ThreadMXBean bean
+                && bean.isThreadAllocatedMemorySupported() && bean.isThreadAllocatedMemoryEnabled());
+        com.sun.management.ThreadMXBean bean = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+
+        int[][] grid = new int[70][70];
+        for (int x = 0; x < 70; x++) {
+            grid[x][10] = CellType.ROAD.getCode();
+            grid[x][11] = CellType.RESIDENTIAL_LOW.getCode();
+            grid[x][12] = x % 10 == 0 ? CellType.POLICE_STATION.getCode() : CellType.COMMERCIAL.getCode();
+        }
+        int radius = congestionProperties.getRadius();
+        int[] weights = congestionProperties.weightTable();
+        for (int i = 0; i < 200; i++) {
+            CityStatsKernel.calculate(grid, 50, radius, weights);
+        }
+
+        long threadId = Thread.currentThread().getId();
+        int iterations = 100;
+        long before = bean.getThreadAllocatedBytes(threadId);
+        for (int i = 0; i < iterations; i++) {
+            CityStatsKernel.calculate(grid, 50, radius, weights);
+        }
+        long perCall = (bean.getThreadAllocatedBytes(threadId) - before) / iterations;
+
+        // 혼잡도 맵(70 x int[70] ≈ 21KB) + 응답 객체 외에는 할당하지 않아야 함
+        assertThat(perCall).isLessThan(32 * 1024);
+    }
+}
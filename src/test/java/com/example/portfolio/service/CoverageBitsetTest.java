@@ -0,0 +1,50 @@
+package com.example.portfolio.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CoverageBitsetTest {
+
+    @Test
+    void diskCoverageMatchesNaiveCountOnLargeGrids() {
+        Random random = new Random(11);
+        int width = 150, height = 140;  // 행마다 워드 3개 (경계를 걸치는 구간 포함)
+
+        for (int round = 0; round < 50; round++) {
+            CoverageBitset coverage = new CoverageBitset(width, height);
+            CoverageBitset mask = new CoverageBitset(width, height);
+            boolean[][] naiveCoverage = new boolean[width][height];
+            boolean[][] naiveMask = new boolean[width][height];
+
+            for (int i = 0; i < 20; i++) {
+                int cx = random.nextInt(width), cy = random.nextInt(height), r = random.nextInt(20);
+                coverage.setDisk(cx, cy, r);
+                for (int dx = -r; dx <= r; dx++) {
+                    for (int dy = -r; dy <= r; dy++) {
+                        int nx = cx + dx, ny = cy + dy;
+                        if (nx >= 0 && nx < width && ny >= 0 && ny < height && dx * dx + dy * dy <= r * r) {
+                            naiveCoverage[nx][ny] = true;
+                        }
+                    }
+                }
+            }
+            int expected = 0;
+            for (int x = 0; x < width; x++) {
+                for (int y = 0; y < height; y++) {
+                    if (random.nextInt(3) == 0) {
+                        mask.set(x, y);
+                        naiveMask[x][y] = true;
+                    }
+                    if (naiveMask[x][y] && naiveCoverage[x][y]) {
+                        expected++;
+                    }
+                }
+            }
+
+            assertThat(coverage.countAnd(mask)).isEqualTo(expected);
+        }
+    }
+}
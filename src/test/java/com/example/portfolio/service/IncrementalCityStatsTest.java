@@ -0,0 +1,159 @@
+package com.example.portfolio.service;
+
+import com.example.portfolio.config.CongestionProperties;
+import com.example.portfolio.domain.CellType;
+import com.example.portfolio.dto.CityStatsResponse;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class IncrementalCityStatsTest {
+
+    private static final int GRID_SIZE = 70;
+
+    private CongestionProperties congestionProperties = new CongestionProperties();
+    private CityStatsService statsService = new CityStatsService(null, null, congestionProperties);
+
+    @Test
+    void matchesFullRecalculationAfterRandomEdits() {
+        Random random = new Random(7);
+        int[] codes = allCodes();
+
+        for (int round = 0; round < 30; round++) {
+            int[][] grid = randomGrid(random, codes, round % 3 == 0 ? 0.9 : 0.3);
+            int baseHappiness = random.nextInt(101);
+            IncrementalCityStats model = IncrementalCityStats.fromGrid(grid, congestionProperties);
+            assertMatches(model, grid, baseHappiness);
+
+            for (int save = 0; save < 20; save++) {
+                List<int[]> changes = new ArrayList<>();
+                int count = 1 + random.nextInt(save % 5 == 0 ? 60 : 5);
+                for (int i = 0; i < count; i++) {
+                    int x = random.nextInt(GRID_SIZE);
+                    int y = random.nextInt(GRID_SIZE - 2);
+                    int code = codes[random.nextInt(codes.length)];
+                    grid[x][y] = code;
+                    changes.add(new int[]{x, y, code});
+                }
+                model.applyChanges(changes);
+                assertMatches(model, grid, baseHappiness);
+            }
+        }
+    }
+
+    @Test
+    void singleCellApplyMatchesFullRecalculation() {
+        int[][] grid = new int[GRID_SIZE][GRID_SIZE];
+        for (int x = 0; x < GRID_SIZE; x++) {
+            grid[x][GRID_SIZE - 2] = 14;
+            grid[x][GRID_SIZE - 1] = 14;
+        }
+        grid[10][10] = CellType.RESIDENTIAL_LOW.getCode();
+        IncrementalCityStats model = IncrementalCityStats.fromGrid(grid, congestionProperties);
+
+        model.apply(12, 12, CellType.EMPTY, CellType.POLICE_STATION);
+        grid[12][12] = CellType.POLICE_STATION.getCode();
+        assertMatches(model, grid, 50);
+
+        model.apply(10, 10, CellType.RESIDENTIAL_LOW, CellType.ROAD);
+        grid[10][10] = CellType.ROAD.getCode();
+        assertMatches(model, grid, 50);
+    }
+
+    @Test
+    void matchesFullRecalculationWithCustomCongestionSettings() {
+        Map<CellType, Integer> weights = new EnumMap<>(CellType.class);
+        weights.put(CellType.COMMERCIAL, 7);
+        weights.put(CellType.AIRPORT, 20);
+        weights.put(CellType.PARK, -3);
+        congestionProperties = new CongestionProperties();
+        congestionProperties.setRadius(2);
+        congestionProperties.setWeights(weights);
+        statsService = new CityStatsService(null, null, congestionProperties);
+
+        matchesFullRecalculationAfterRandomEdits();
+    }
+
+    @Test
+    void defaultCongestionMatchesNeighbourScan() {
+        Random random = new Random(3);
+        int[] codes = allCodes();
+        for (int round = 0; round < 20; round++) {
+            int[][] grid = randomGrid(random, codes, 0.4);
+            int[][] congestion = statsService.calculateStats(grid, 50).getCongestionMap();
+            assertThat(congestion).isDeepEqualTo(neighbourScanCongestion(grid));
+        }
+    }
+
+    // 누적합 도입 전 방식 (반경 3 안의 주거/상업/공업 칸 수 * 5)
+    private static int[][] neighbourScanCongestion(int[][] grid) {
+        int roadCount = 0, buildingCount = 0;
+        for (int[] column : grid) {
+            for (int cell : column) {
+                CellType type = CellType.fromCode(cell);
+                if (type.isRoad()) roadCount++;
+                else if (isBuilding(type)) buildingCount++;
+            }
+        }
+        int[][] congestion = new int[GRID_SIZE][GRID_SIZE];
+        if (roadCount == 0) return congestion;
+        int base = Math.min(100, (buildingCount * 50) / roadCount);
+        for (int x = 0; x < GRID_SIZE; x++) {
+            for (int y = 0; y < GRID_SIZE; y++) {
+                if (!CellType.fromCode(grid[x][y]).isRoad()) continue;
+                int nearby = 0;
+                for (int dx = -3; dx <= 3; dx++) {
+                    for (int dy = -3; dy <= 3; dy++) {
+                        int nx = x + dx, ny = y + dy;
+                        if (nx >= 0 && nx < GRID_SIZE && ny >= 0 && ny < GRID_SIZE
+                                && isBuilding(CellType.fromCode(grid[nx][ny]))) {
+                            nearby++;
+                        }
+                    }
+                }
+                congestion[x][y] = Math.min(100, base + nearby * 5);
+            }
+        }
+        return congestion;
+    }
+
+    private static boolean isBuilding(CellType type) {
+        return type.isResidential() || type == CellType.COMMERCIAL || type == CellType.INDUSTRIAL;
+    }
+
+    private void assertMatches(IncrementalCityStats model, int[][] grid, int baseHappiness) {
+        CityStatsResponse expected = statsService.calculateStats(grid, baseHappiness);
+        assertThat(model.toResponse(baseHappiness)).usingRecursiveComparison().isEqualTo(expected);
+    }
+
+    private static int[][] randomGrid(Random random, int[] codes, double emptyRatio) {
+        int[][] grid = new int[GRID_SIZE][GRID_SIZE];
+        for (int x = 0; x < GRID_SIZE; x++) {
+            for (int y = 0; y < GRID_SIZE - 2; y++) {
+                grid[x][y] = random.nextDouble() < emptyRatio ? 0 : codes[random.nextInt(codes.length)];
+            }
+            grid[x][GRID_SIZE - 2] = 14;
+            grid[x][GRID_SIZE - 1] = 14;
+        }
+        return grid;
+    }
+
+    private static int[] allCodes() {
+        CellType[] types = CellType.values();
+        int[] codes = new int[types.length + 3];
+        for (int i = 0; i < types.length; i++) {
+            codes[i] = types[i].getCode();
+        }
+        // 클라이언트 전용 코드 (서버에서는 EMPTY로 취급)
+        codes[types.length] = 15;
+        codes[types.length + 1] = 16;
+        codes[types.length + 2] = 17;
+        return codes;
+    }
+}
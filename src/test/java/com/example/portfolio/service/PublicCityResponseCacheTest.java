@@ -0,0 +1,89 @@
+package com.example.portfolio.service;
+
+import com.example.portfolio.domain.CityMap;
+import com.example.portfolio.domain.CityMapPayload;
+import com.example.portfolio.domain.Role;
+import com.example.portfolio.domain.User;
+import com.example.portfolio.dto.CityMapResponse;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.zip.GZIPInputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PublicCityResponseCacheTest {
+
+    private final PublicCityResponseCache cache =
+            new PublicCityResponseCache(new SimpleMeterRegistry(), new ObjectMapper(), 1_000_000, 10);
+    private final AtomicInteger loads = new AtomicInteger();
+
+    @Test
+    void concurrentMissesShareOneLoad() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            Future<?>[] futures = new Future<?>[8];
+            for (int i = 0; i < futures.length; i++) {
+                futures[i] = executor.submit(() -> cache.get("alice", "Seoul", () -> {
+                    awaitQuietly(release);
+                    return response("Seoul");
+                }));
+            }
+            Thread.sleep(100);
+            release.countDown();
+            for (Future<?> future : futures) {
+                future.get(5, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertThat(loads.get()).isEqualTo(1);
+    }
+
+    @Test
+    void gzipBytesMatchJsonAndEvictionReloads() throws Exception {
+        PublicCityResponseCache.Entry entry = cache.get("alice", "Seoul", () -> response("Seoul"));
+        try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(entry.gzip()))) {
+            assertThat(in.readAllBytes()).isEqualTo(entry.json());
+        }
+        assertThat(new ObjectMapper().readTree(entry.json()).get("owner").asBoolean()).isFalse();
+
+        cache.get("alice", null, () -> response("Seoul"));
+        cache.get("alice", "Busan", () -> response("Busan"));
+        assertThat(loads.get()).isEqualTo(3);
+
+        // 서울 변경: 서울과 기본 도시 키는 무효화, 부산은 유지
+        cache.evictAfterCommit("alice", "Seoul");
+        cache.get("alice", "Seoul", () -> response("Seoul"));
+        cache.get("alice", null, () -> response("Seoul"));
+        cache.get("alice", "Busan", () -> response("Busan"));
+        assertThat(loads.get()).isEqualTo(5);
+    }
+
+    private CityMapResponse response(String cityName) {
+        loads.incrementAndGet();
+        User user = User.builder().username("alice").role(Role.USER).build();
+        CityMap cityMap = CityMap.createDefault(user, cityName, "city");
+        CityMapPayload payload = new CityMapPayload(1L, CityMapPayload.defaultGridData());
+        return new CityMapResponse(cityMap, payload, new int[][]{{0, 1}, {1, 0}}, false)
+                .withEtag(CityMapETag.of(cityMap, 0L, false, 0L, 0L));
+    }
+
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}